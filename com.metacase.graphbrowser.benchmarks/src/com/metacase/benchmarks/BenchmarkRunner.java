@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2011 MetaCase Consulting
+ * Released under the MIT license. See the file license.txt for details.
+ */
+
+package com.metacase.benchmarks;
+
+import java.io.File;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks and writes the results as JSON, by default to
+ * results/benchmarks-yyyyMMdd-HHmmss.json, so that the results of different
+ * versions can be compared. Takes the JMH command line options, for example
+ * a benchmark name pattern, -p graphs=1000 or -rff file.json.
+ */
+public class BenchmarkRunner {
+
+	public static void main(String[] args) throws Exception {
+		CommandLineOptions options = new CommandLineOptions(args);
+		ChainedOptionsBuilder builder = new OptionsBuilder().parent(options);
+		if (!options.getResultFormat().hasValue()) builder.resultFormat(ResultFormatType.JSON);
+		if (!options.getResult().hasValue()) {
+			File folder = new File("results");
+			folder.mkdirs();
+			String time = new SimpleDateFormat("yyyyMMdd-HHmmss").format(new Date());
+			builder.result(new File(folder, "benchmarks-" + time + ".json").getPath());
+		}
+		new Runner(builder.build()).run();
+	}
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2011 MetaCase Consulting
+ * Released under the MIT license. See the file license.txt for details.
+ */
+
+package com.metacase.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.metacase.API.MEOop;
+import com.metacase.objects.Graph;
+
+/**
+ * Creating Graphs from MEOops with Graph.MEOopToGraph, one operation converting
+ * all graphs of the repository: first with empty caches, as in the first load,
+ * and then with the graphs and type names already cached, as in a refresh.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GraphBenchmark {
+
+	@Benchmark
+	public void meOopToGraph(RepositoryState state, Blackhole blackhole) throws Exception {
+		Graph.resetCaches();
+		for (MEOop m : state.meOops) {
+			blackhole.consume(Graph.MEOopToGraph(m, state.port));
+		}
+	}
+
+	@Benchmark
+	public void meOopToGraphCached(RepositoryState state, CachedGraphs cached, Blackhole blackhole)
+			throws Exception {
+		for (MEOop m : state.meOops) {
+			blackhole.consume(Graph.MEOopToGraph(m, state.port));
+		}
+	}
+
+	/**
+	 * The graphs of the repository created once before measuring.
+	 */
+	@State(Scope.Benchmark)
+	public static class CachedGraphs {
+		@Setup(Level.Trial)
+		public void setUp(RepositoryState state) throws Exception {
+			Graph.resetCaches();
+			for (MEOop m : state.meOops) {
+				Graph.MEOopToGraph(m, state.port);
+			}
+		}
+	}
+}
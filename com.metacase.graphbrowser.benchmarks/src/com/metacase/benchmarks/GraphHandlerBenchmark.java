@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2011 MetaCase Consulting
+ * Released under the MIT license. See the file license.txt for details.
+ */
+
+package com.metacase.benchmarks;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.metacase.graphbrowser.GraphHandler;
+import com.metacase.graphbrowser.GraphLoader;
+import com.metacase.objects.Graph;
+
+/**
+ * The work of GraphHandler.init: loading all graphs with their subgraphs, and
+ * finding the top level graphs by computing which graphs are reachable. GraphHandler.init
+ * itself gets its port and loader settings from the running plugin, so the load is
+ * made here with a GraphLoader using the default settings.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GraphHandlerBenchmark {
+
+	// The default loader settings.
+	private static final int THREADS = 4;
+	private static final int MAX_REQUESTS_IN_FLIGHT = 8;
+
+	@Benchmark
+	public Graph[] init(RepositoryState state) {
+		Graph.resetCaches();
+		GraphLoader loader = new GraphLoader(state.port, THREADS, MAX_REQUESTS_IN_FLIGHT, true);
+		return GraphHandler.topLevelGraphs(Arrays.asList(loader.load(state.meOops)));
+	}
+
+	@Benchmark
+	public Graph[] topLevelGraphs(LoadedGraphs loaded) {
+		return GraphHandler.topLevelGraphs(Arrays.asList(loaded.graphs));
+	}
+
+	/**
+	 * The graphs of the repository loaded once before measuring.
+	 */
+	@State(Scope.Benchmark)
+	public static class LoadedGraphs {
+		public Graph[] graphs;
+
+		@Setup(Level.Trial)
+		public void setUp(RepositoryState state) {
+			Graph.resetCaches();
+			graphs = new GraphLoader(state.port, THREADS, MAX_REQUESTS_IN_FLIGHT, true).load(state.meOops);
+		}
+	}
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2011 MetaCase Consulting
+ * Released under the MIT license. See the file license.txt for details.
+ */
+
+package com.metacase.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.metacase.graphbrowser.IniHandler;
+
+/**
+ * Reading and saving a settings file of each measured number of settings with
+ * IniHandler. The files are in a temporary folder.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IniHandlerBenchmark {
+
+	@Param({ "20", "200", "2000" })
+	public int settings;
+
+	private File folder;
+	private File iniFile;
+	private File savedFile;
+	private IniHandler ini;
+
+	@Setup(Level.Trial)
+	public void setUp() throws IOException {
+		folder = File.createTempFile("inibenchmark", "");
+		folder.delete();
+		folder.mkdir();
+		iniFile = new File(folder, "default.mer");
+		savedFile = new File(folder, "saved.mer");
+		IniHandler writer = new IniHandler(iniFile.getPath());
+		for (int i = 0; i < settings; i++) {
+			writer.addSetting("setting" + i, "C:\\Program Files\\MetaEdit+ 5.0\\value " + i);
+		}
+		writer.saveSettings();
+		ini = new IniHandler(iniFile.getPath());
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		iniFile.delete();
+		savedFile.delete();
+		folder.delete();
+	}
+
+	@Benchmark
+	public IniHandler parse() {
+		return new IniHandler(iniFile.getPath());
+	}
+
+	@Benchmark
+	public void save() {
+		ini.saveSettings(savedFile.getPath());
+	}
+}
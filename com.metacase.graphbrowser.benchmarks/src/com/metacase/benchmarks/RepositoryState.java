@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2011 MetaCase Consulting
+ * Released under the MIT license. See the file license.txt for details.
+ */
+
+package com.metacase.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.metacase.API.*;
+import com.metacase.fakeserver.FakeMetaEditPort;
+import com.metacase.fakeserver.SyntheticRepository;
+
+/**
+ * A synthetic repository of each measured size, served by the fake MetaEdit+ API
+ * in the same process, without SOAP or latency, so the benchmarks measure the
+ * plugin and not the API.
+ */
+@State(Scope.Benchmark)
+public class RepositoryState {
+
+	@Param({ "100", "1000", "10000" })
+	public int graphs;
+
+	public SyntheticRepository repository;
+	public FakeMetaEditPort fakePort;
+	public MetaEditAPIPortType port;
+	public MEOop[] meOops;
+
+	@Setup(Level.Trial)
+	public void setUp() throws Exception {
+		repository = new SyntheticRepository(graphs);
+		fakePort = new FakeMetaEditPort(repository, 0);
+		port = fakePort.asPort();
+		METype graphType = new METype();
+		graphType.setName(SyntheticRepository.GRAPH_TYPE);
+		meOops = port.allSimilarInstances(graphType);
+	}
+}
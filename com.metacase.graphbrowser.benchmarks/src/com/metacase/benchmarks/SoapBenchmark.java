@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2011 MetaCase Consulting
+ * Released under the MIT license. See the file license.txt for details.
+ */
+
+package com.metacase.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.metacase.API.*;
+
+/**
+ * Writing and reading MetaEdit+ API responses with Axis: an MEOop[] as returned by
+ * allSimilarInstances and subgraphs, and an MEAny[] as returned by allPropertiesValues,
+ * of each measured length.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SoapBenchmark {
+
+	@Param({ "10", "1000", "10000" })
+	public int length;
+
+	private SoapCodec codec;
+	private MEOop[] meOops;
+	private MEAny[] meAnys;
+	private String meOopResponse;
+	private String meAnyResponse;
+
+	@Setup(Level.Trial)
+	public void setUp() throws Exception {
+		codec = new SoapCodec();
+		meOops = new MEOop[length];
+		meAnys = new MEAny[length];
+		for (int i = 0; i < length; i++) {
+			meOops[i] = new MEOop(1, i + 1);
+			meAnys[i] = new MEAny("String", "Property value " + (i + 1));
+		}
+		meOopResponse = codec.write("allSimilarInstances", meOops);
+		meAnyResponse = codec.write("allPropertiesValues", meAnys);
+	}
+
+	@Benchmark
+	public String writeMEOops() throws Exception {
+		return codec.write("allSimilarInstances", meOops);
+	}
+
+	@Benchmark
+	public Object readMEOops() throws Exception {
+		return codec.read(meOopResponse);
+	}
+
+	@Benchmark
+	public String writeMEAnys() throws Exception {
+		return codec.write("allPropertiesValues", meAnys);
+	}
+
+	@Benchmark
+	public Object readMEAnys() throws Exception {
+		return codec.read(meAnyResponse);
+	}
+}
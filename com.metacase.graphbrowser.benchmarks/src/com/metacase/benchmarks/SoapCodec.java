@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2011 MetaCase Consulting
+ * Released under the MIT license. See the file license.txt for details.
+ */
+
+package com.metacase.benchmarks;
+
+import java.util.Vector;
+
+import javax.xml.namespace.QName;
+
+import org.apache.axis.Constants;
+import org.apache.axis.Message;
+import org.apache.axis.MessageContext;
+import org.apache.axis.client.AxisClient;
+import org.apache.axis.configuration.SimpleProvider;
+import org.apache.axis.encoding.TypeMapping;
+import org.apache.axis.encoding.TypeMappingRegistry;
+import org.apache.axis.message.RPCElement;
+import org.apache.axis.message.RPCParam;
+import org.apache.axis.message.SOAPEnvelope;
+
+import com.metacase.fakeserver.FakeMetaEditServer;
+
+/**
+ * Writes and reads MetaEdit+ API responses as SOAP messages with Axis, using the
+ * rpc/encoded form and type mappings of the MetaEdit+ API, without a server.
+ */
+public class SoapCodec {
+
+	private static final String OPERATION_NAMESPACE = "http://metacase.com/wsdl/";
+
+	private MessageContext context;
+
+	public SoapCodec() {
+		context = new MessageContext(new AxisClient(new SimpleProvider()));
+		context.setEncodingStyle(Constants.URI_SOAP11_ENC);
+		TypeMappingRegistry registry = context.getTypeMappingRegistry();
+		FakeMetaEditServer.registerTypes((TypeMapping) registry.getOrMakeTypeMapping(Constants.URI_SOAP11_ENC));
+	}
+
+	/**
+	 * Writes a response.
+	 * @param operation name of the operation.
+	 * @param result the returned value.
+	 * @return the SOAP message.
+	 */
+	public String write(String operation, Object result) throws Exception {
+		RPCElement body = new RPCElement(OPERATION_NAMESPACE, operation + "Response",
+				new Object[] { new RPCParam(new QName("", "result"), result) });
+		body.setEncodingStyle(Constants.URI_SOAP11_ENC);
+		SOAPEnvelope envelope = new SOAPEnvelope();
+		envelope.addBodyElement(body);
+		Message message = new Message(envelope);
+		message.setMessageContext(context);
+		return message.getSOAPPartAsString();
+	}
+
+	/**
+	 * Reads a response.
+	 * @param soap the SOAP message.
+	 * @return the returned value.
+	 */
+	public Object read(String soap) throws Exception {
+		Message message = new Message(soap);
+		message.setMessageContext(context);
+		RPCElement body = (RPCElement) message.getSOAPEnvelope().getFirstBody();
+		Vector<?> params = body.getParams();
+		return ((RPCParam) params.get(0)).getObjectValue();
+	}
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2011 MetaCase Consulting
+ * Released under the MIT license. See the file license.txt for details.
+ */
+
+package com.metacase.benchmarks;
+
+import java.net.URL;
+import java.rmi.RemoteException;
+import java.util.concurrent.TimeUnit;
+
+import javax.xml.namespace.QName;
+
+import org.apache.axis.AxisFault;
+import org.apache.axis.client.Call;
+import org.apache.axis.description.OperationDesc;
+import org.apache.axis.soap.SOAPConstants;
+import org.openjdk.jmh.annotations.*;
+
+import com.metacase.API.MetaEditAPISoapBindingStub;
+
+/**
+ * Preparing an Axis call in the stub for an operation of each measured kind, without
+ * sending it: createCall(int), which uses the operation name and SOAP action built
+ * when the stub class is loaded, and the preparation every operation used to do,
+ * which built them and looked up AllowSetForegroundWindow again for each call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StubCallBenchmark {
+
+	/**
+	 * Gives the benchmark the protected call preparation of the stub.
+	 */
+	static class Stub extends MetaEditAPISoapBindingStub {
+		Stub(URL endpoint) throws AxisFault {
+			super(endpoint, null);
+		}
+
+		Call prepared(int operation) throws RemoteException {
+			return createCall(operation);
+		}
+
+		Call perCall(OperationDesc operation) throws RemoteException {
+			try {
+				Class.forName("org.eclipse.swt.internal.win32.OS").getMethod("AllowSetForegroundWindow", int.class)
+					.invoke(null, -1);
+			} catch (Exception e) {}
+			Call call = createCall();
+			call.setOperation(operation);
+			call.setUseSOAPAction(true);
+			call.setSOAPActionURI("http://metacase.com/MetaEditAPI." + operation.getName());
+			call.setSOAPVersion(SOAPConstants.SOAP11_CONSTANTS);
+			call.setOperationName(new QName("http://metacase.com/wsdl/", operation.getName()));
+			return call;
+		}
+	}
+
+	@Param({ "typeName", "subgraphs", "userPrintString" })
+	public String operation;
+
+	private Stub stub;
+	private int index = -1;
+	private OperationDesc desc;
+
+	@Setup(Level.Trial)
+	public void setUp() throws Exception {
+		// Nothing is sent, so there need not be a server at the address.
+		stub = new Stub(new URL("http://localhost:6390/MetaEditAPI"));
+		for (int i = 0; index < 0; i++) {
+			Call call = stub.prepared(i);
+			if (call.getOperationName().getLocalPart().equals(operation)) {
+				index = i;
+				desc = call.getOperation();
+			}
+		}
+	}
+
+	@Benchmark
+	public Call prepared() throws Exception {
+		return stub.prepared(index);
+	}
+
+	@Benchmark
+	public Call perCall() throws Exception {
+		return stub.perCall(desc);
+	}
+}
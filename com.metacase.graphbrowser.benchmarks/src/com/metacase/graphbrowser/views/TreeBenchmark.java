@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2011 MetaCase Consulting
+ * Released under the MIT license. See the file license.txt for details.
+ */
+
+package com.metacase.graphbrowser.views;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.metacase.benchmarks.RepositoryState;
+import com.metacase.graphbrowser.GraphHandler;
+import com.metacase.graphbrowser.GraphLoader;
+import com.metacase.objects.Graph;
+
+/**
+ * Building the graph tree with the tree objects of GraphView, which work without
+ * the workbench: sorting the subgraphs of every graph after a load, adding the top
+ * level graphs to the invisible root, and opening the whole tree, which creates a
+ * tree object for every path from the top level graphs. The benchmark is in the
+ * package of GraphView, as the tree objects are not public.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TreeBenchmark {
+
+	@Benchmark
+	public void sortChildren(LoadedTree tree, Blackhole blackhole) {
+		for (Graph g : tree.graphs) {
+			blackhole.consume(g.sortChildren());
+		}
+	}
+
+	@Benchmark
+	public GraphView.TreeObject[] addGraphs(LoadedTree tree) {
+		return tree.view.new TreeObject().addGraphs(tree.topLevelGraphs);
+	}
+
+	@Benchmark
+	public int openAll(LoadedTree tree) {
+		int items = 0;
+		for (GraphView.TreeObject to : tree.view.new TreeObject().addGraphs(tree.topLevelGraphs)) {
+			items += open(to);
+		}
+		return items;
+	}
+
+	/**
+	 * Opens a tree object and its subtree.
+	 * @return number of tree items.
+	 */
+	private static int open(GraphView.TreeObject to) {
+		int items = 1;
+		for (GraphView.TreeObject child : to.getChildren()) {
+			items += open(child);
+		}
+		return items;
+	}
+
+	/**
+	 * The graphs of the repository loaded once before measuring, and the view
+	 * the tree objects belong to.
+	 */
+	@State(Scope.Benchmark)
+	public static class LoadedTree {
+		public Graph[] graphs;
+		public Graph[] topLevelGraphs;
+		public GraphView view;
+
+		@Setup(Level.Trial)
+		public void setUp(RepositoryState state) {
+			Graph.resetCaches();
+			graphs = new GraphLoader(state.port, 4, 8, true).load(state.meOops);
+			topLevelGraphs = GraphHandler.topLevelGraphs(Arrays.asList(graphs));
+			view = new GraphView();
+		}
+	}
+}
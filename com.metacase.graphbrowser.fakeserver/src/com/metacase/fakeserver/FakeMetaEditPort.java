@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) 2011 MetaCase Consulting
+ * Released under the MIT license. See the file license.txt for details.
+ */
+
+package com.metacase.fakeserver;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.rmi.RemoteException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.metacase.API.*;
+
+/**
+ * The MetaEdit+ API operations used by the plugin, answered from a SyntheticRepository.
+ * Each call waits for the configured latency before answering, to stand for the time
+ * MetaEdit+ takes, and is counted by operation.
+ * <p>
+ * The object is used as the service object of FakeMetaEditServer, and asPort gives
+ * a MetaEditAPIPortType for using it in the same process without SOAP.
+ */
+public class FakeMetaEditPort {
+
+	/**
+	 * Names of the operations answered; the other MetaEdit+ API operations fail.
+	 */
+	public static final String[] OPERATIONS = { "allSimilarInstances", "type", "typeName", "userPrintString",
+		"subgraphs", "generatorNames", "forGraphRun", "open", "timeStamp", "currentDir" };
+
+	private SyntheticRepository repository;
+	private volatile long latencyMillis;
+	private volatile String currentDir;
+	private ConcurrentHashMap<String, AtomicLong> calls = new ConcurrentHashMap<String, AtomicLong>();
+
+	/**
+	 * Constructor.
+	 * @param repository the graphs to serve.
+	 * @param latencyMillis time each call takes in milliseconds.
+	 */
+	public FakeMetaEditPort(SyntheticRepository repository, long latencyMillis) {
+		this.repository = repository;
+		this.latencyMillis = latencyMillis;
+		for (String operation : OPERATIONS) {
+			calls.put(operation, new AtomicLong());
+		}
+	}
+
+	public MEOop[] allSimilarInstances(METype receiver) throws RemoteException {
+		call("allSimilarInstances");
+		if (receiver == null || !SyntheticRepository.GRAPH_TYPE.equals(receiver.getName())) return new MEOop[0];
+		return repository.allGraphs();
+	}
+
+	public METype type(MEOop receiver) throws RemoteException {
+		call("type");
+		return new METype(repository.type(index(receiver)));
+	}
+
+	public String typeName(METype receiver) throws RemoteException {
+		call("typeName");
+		String typeName = (receiver == null) ? null : repository.typeNameOf(receiver.getName());
+		if (typeName == null) throw new RemoteException("No such type: " + (receiver == null ? null : receiver.getName()));
+		return typeName;
+	}
+
+	public String userPrintString(MEOop receiver) throws RemoteException {
+		call("userPrintString");
+		return repository.name(index(receiver));
+	}
+
+	public MEOop[] subgraphs(MEOop receiver) throws RemoteException {
+		call("subgraphs");
+		return repository.subgraphs(index(receiver));
+	}
+
+	public String generatorNames(METype receiver) throws RemoteException {
+		call("generatorNames");
+		// MetaEdit+ separates the names with carriage returns.
+		return "Autobuild\r_translators\r!Old generator\rExport graph to HTML\rDocument";
+	}
+
+	public boolean forGraphRun(MEOop receiver, String forGraphRun) throws RemoteException {
+		call("forGraphRun");
+		index(receiver);
+		return true;
+	}
+
+	public MENull currentDir(MENull receiver, String currentDir) throws RemoteException {
+		call("currentDir");
+		this.currentDir = currentDir;
+		return new MENull();
+	}
+
+	public MENull open(MEOop receiver) throws RemoteException {
+		call("open");
+		index(receiver);
+		return new MENull();
+	}
+
+	public Calendar timeStamp(MEOop receiver) throws RemoteException {
+		call("timeStamp");
+		Calendar c = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
+		c.setTimeInMillis(repository.timeStamp(index(receiver)));
+		return c;
+	}
+
+	/**
+	 * @return the directory last set with currentDir, or null.
+	 */
+	public String getCurrentDir() {
+		return currentDir;
+	}
+
+	/**
+	 * @return the served repository.
+	 */
+	public SyntheticRepository getRepository() {
+		return repository;
+	}
+
+	/**
+	 * Sets the time each call takes.
+	 * @param latencyMillis latency in milliseconds.
+	 */
+	public void setLatencyMillis(long latencyMillis) {
+		this.latencyMillis = latencyMillis;
+	}
+
+	/**
+	 * @return time each call takes in milliseconds.
+	 */
+	public long getLatencyMillis() {
+		return latencyMillis;
+	}
+
+	/**
+	 * Gets the number of calls of an operation.
+	 * @param operation name of the operation.
+	 * @return number of calls.
+	 */
+	public long getCallCount(String operation) {
+		AtomicLong count = calls.get(operation);
+		return (count == null) ? 0 : count.get();
+	}
+
+	/**
+	 * @return number of calls of all operations.
+	 */
+	public long getTotalCalls() {
+		long total = 0;
+		for (AtomicLong count : calls.values()) {
+			total += count.get();
+		}
+		return total;
+	}
+
+	/**
+	 * Sets the call counts to zero.
+	 */
+	public void resetCallCounts() {
+		for (AtomicLong count : calls.values()) {
+			count.set(0);
+		}
+	}
+
+	/**
+	 * Gets a port that calls this object directly, for loading graphs without SOAP.
+	 * The operations not answered throw a RemoteException.
+	 * @return the port.
+	 */
+	public MetaEditAPIPortType asPort() {
+		return (MetaEditAPIPortType) Proxy.newProxyInstance(MetaEditAPIPortType.class.getClassLoader(),
+				new Class<?>[] { MetaEditAPIPortType.class },
+				new InvocationHandler() {
+					public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+						if (method.getDeclaringClass() == Object.class) return method.invoke(this, args);
+						Method target;
+						try {
+							target = FakeMetaEditPort.class.getMethod(method.getName(), method.getParameterTypes());
+						} catch (NoSuchMethodException e) {
+							throw new RemoteException(method.getName() + " is not supported by the fake MetaEdit+ API");
+						}
+						try {
+							return target.invoke(FakeMetaEditPort.this, args);
+						} catch (InvocationTargetException e) {
+							throw e.getCause();
+						}
+					}
+				});
+	}
+
+	private void call(String operation) throws RemoteException {
+		calls.get(operation).incrementAndGet();
+		long latency = latencyMillis;
+		if (latency <= 0) return;
+		try {
+			Thread.sleep(latency);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RemoteException("Interrupted");
+		}
+	}
+
+	private int index(MEOop receiver) throws RemoteException {
+		int index = repository.indexOf(receiver);
+		if (index < 0) {
+			throw new RemoteException("No such graph: " + (receiver == null ? null
+				: receiver.getAreaID() + "_" + receiver.getObjectID()));
+		}
+		return index;
+	}
+}
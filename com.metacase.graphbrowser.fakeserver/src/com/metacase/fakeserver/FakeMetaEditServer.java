@@ -0,0 +1,281 @@
+/*
+ * Copyright (c) 2011 MetaCase Consulting
+ * Released under the MIT license. See the file license.txt for details.
+ */
+
+package com.metacase.fakeserver;
+
+import java.io.*;
+import java.net.InetSocketAddress;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+import javax.xml.namespace.QName;
+
+import org.apache.axis.AxisFault;
+import org.apache.axis.Constants;
+import org.apache.axis.Message;
+import org.apache.axis.MessageContext;
+import org.apache.axis.configuration.SimpleProvider;
+import org.apache.axis.constants.Style;
+import org.apache.axis.constants.Use;
+import org.apache.axis.encoding.TypeMapping;
+import org.apache.axis.encoding.TypeMappingRegistry;
+import org.apache.axis.encoding.ser.*;
+import org.apache.axis.handlers.soap.SOAPService;
+import org.apache.axis.providers.java.RPCProvider;
+import org.apache.axis.server.AxisServer;
+
+import com.metacase.API.*;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Stand-in for the MetaEdit+ SOAP API, for measuring the plugin without MetaEdit+.
+ * The server answers the operations of FakeMetaEditPort from a synthetic repository
+ * at http://localhost:port/MetaEditAPI, using the same SOAP encoding as MetaEdit+,
+ * so the plugin and its Axis stub can be pointed at it as they are.
+ * <p>
+ * The server can be started in a test or benchmark with start and stop, or from the
+ * command line; see main for the options.
+ */
+public class FakeMetaEditServer {
+
+	public static final String SERVICE_NAME = "MetaEditAPI";
+	public static final String TYPE_NAMESPACE = "http://metacase.com/type";
+
+	static {
+		// The JDK HTTP server writes the headers and the body of a response separately;
+		// without this, Nagle's algorithm delays the body of responses on kept-alive
+		// connections by the client's delayed acknowledgement, some 40 ms.
+		if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+			System.setProperty("sun.net.httpserver.nodelay", "true");
+		}
+	}
+
+	private FakeMetaEditPort port;
+	private AxisServer engine;
+	private HttpServer http;
+	private ExecutorService executor;
+	private int threads = 16;
+
+	/**
+	 * Constructor.
+	 * @param port the operations to serve.
+	 */
+	public FakeMetaEditServer(FakeMetaEditPort port) {
+		this.port = port;
+		this.engine = new AxisServer(createConfiguration());
+	}
+
+	/**
+	 * Sets the number of threads serving the requests. MetaEdit+ serves one request at
+	 * a time, so 1 is closest to it; more threads show how the plugin uses a faster server.
+	 * Must be called before start.
+	 * @param threads number of threads.
+	 */
+	public void setThreads(int threads) {
+		this.threads = Math.max(1, threads);
+	}
+
+	/**
+	 * Starts serving.
+	 * @param portNumber TCP port to listen to, or 0 for any free port.
+	 * @throws IOException if the port cannot be opened.
+	 */
+	public synchronized void start(int portNumber) throws IOException {
+		if (http != null) throw new IllegalStateException("Already started");
+		http = HttpServer.create(new InetSocketAddress("localhost", portNumber), 50);
+		http.createContext("/" + SERVICE_NAME, new HttpHandler() {
+			public void handle(HttpExchange exchange) throws IOException {
+				serve(exchange);
+			}
+		});
+		executor = Executors.newFixedThreadPool(threads, new ThreadFactory() {
+			public Thread newThread(Runnable r) {
+				Thread t = new Thread(r, "Fake MetaEdit+ API");
+				t.setDaemon(true);
+				return t;
+			}
+		});
+		http.setExecutor(executor);
+		http.start();
+	}
+
+	/**
+	 * Stops serving.
+	 */
+	public synchronized void stop() {
+		if (http == null) return;
+		http.stop(0);
+		executor.shutdownNow();
+		http = null;
+		executor = null;
+	}
+
+	/**
+	 * @return the TCP port the server listens to.
+	 */
+	public synchronized int getPortNumber() {
+		if (http == null) throw new IllegalStateException("Not started");
+		return http.getAddress().getPort();
+	}
+
+	/**
+	 * @return the endpoint address for MetaEditAPILocator.setMetaEditAPIPortEndpointAddress.
+	 */
+	public String getEndpoint() {
+		return "http://localhost:" + getPortNumber() + "/" + SERVICE_NAME;
+	}
+
+	/**
+	 * @return the served operations.
+	 */
+	public FakeMetaEditPort getPort() {
+		return port;
+	}
+
+	private void serve(HttpExchange exchange) throws IOException {
+		Message response;
+		int status = 200;
+		try {
+			if (!"POST".equals(exchange.getRequestMethod())) {
+				exchange.sendResponseHeaders(405, -1);
+				return;
+			}
+			MessageContext context = new MessageContext(engine);
+			context.setRequestMessage(new Message(exchange.getRequestBody(), false,
+					exchange.getRequestHeaders().getFirst("Content-Type"), null));
+			context.setTargetService(SERVICE_NAME);
+			try {
+				engine.invoke(context);
+				response = context.getResponseMessage();
+			} catch (AxisFault fault) {
+				response = new Message(fault);
+				status = 500;
+			}
+			ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+			response.writeTo(buffer);
+			byte[] bytes = escapeCarriageReturns(buffer.toByteArray());
+			exchange.getResponseHeaders().set("Content-Type", response.getContentType(context.getSOAPConstants()));
+			exchange.sendResponseHeaders(status, bytes.length);
+			OutputStream out = exchange.getResponseBody();
+			out.write(bytes);
+			out.close();
+		} catch (Exception e) {
+			e.printStackTrace();
+			exchange.sendResponseHeaders(500, -1);
+		} finally {
+			exchange.close();
+		}
+	}
+
+	/**
+	 * Writes the carriage returns of the response as character references, as MetaEdit+
+	 * does. Axis writes them as they are, and the XML parser of the client would turn
+	 * them into line feeds, so that for example the generator names could not be split.
+	 * Axis itself only uses line feeds between the elements.
+	 */
+	private static byte[] escapeCarriageReturns(byte[] bytes) {
+		ByteArrayOutputStream escaped = new ByteArrayOutputStream(bytes.length + 64);
+		for (byte b : bytes) {
+			if (b == '\r') {
+				escaped.write('&');
+				escaped.write('#');
+				escaped.write('1');
+				escaped.write('3');
+				escaped.write(';');
+			} else {
+				escaped.write(b);
+			}
+		}
+		return escaped.toByteArray();
+	}
+
+	/**
+	 * Deploys the service with the type mappings of the MetaEdit+ API types,
+	 * as the Axis stub registers them on the client side.
+	 */
+	private SimpleProvider createConfiguration() {
+		SOAPService service = new SOAPService(new RPCProvider() {
+			protected Object makeNewServiceObject(MessageContext msgContext, String clsName) {
+				return port;
+			}
+		});
+		service.setName(SERVICE_NAME);
+		service.setOption(RPCProvider.OPTION_CLASSNAME, FakeMetaEditPort.class.getName());
+		StringBuilder methods = new StringBuilder();
+		for (String operation : FakeMetaEditPort.OPERATIONS) {
+			methods.append(operation).append(' ');
+		}
+		service.setOption(RPCProvider.OPTION_ALLOWEDMETHODS, methods.toString().trim());
+		service.setStyle(Style.RPC);
+		service.setUse(Use.ENCODED);
+		TypeMappingRegistry registry = service.getTypeMappingRegistry();
+		registerTypes((TypeMapping) registry.getOrMakeTypeMapping(Constants.URI_SOAP11_ENC));
+		SimpleProvider configuration = new SimpleProvider();
+		configuration.deployService(SERVICE_NAME, service);
+		return configuration;
+	}
+
+	/**
+	 * Registers the serializers of the MetaEdit+ API types in a SOAP encoding type mapping.
+	 * @param mapping the type mapping.
+	 */
+	public static void registerTypes(TypeMapping mapping) {
+		registerBean(mapping, MEAny.class, "MEAny");
+		registerBean(mapping, MENull.class, "MENull");
+		registerBean(mapping, MEOop.class, "MEOop");
+		registerBean(mapping, METype.class, "METype");
+		registerArray(mapping, MEAny[].class, "MEAnyArray", "MEAny");
+		registerArray(mapping, MEOop[].class, "MEOopArray", "MEOop");
+		registerArray(mapping, METype[].class, "METypeArray", "METype");
+	}
+
+	private static void registerBean(TypeMapping mapping, Class<?> cls, String name) {
+		QName qName = new QName(TYPE_NAMESPACE, name);
+		mapping.register(cls, qName, new BeanSerializerFactory(cls, qName), new BeanDeserializerFactory(cls, qName));
+	}
+
+	private static void registerArray(TypeMapping mapping, Class<?> cls, String name, String componentName) {
+		QName qName = new QName(TYPE_NAMESPACE, name);
+		mapping.register(cls, qName, new ArraySerializerFactory(new QName(TYPE_NAMESPACE, componentName), null),
+				new ArrayDeserializerFactory());
+	}
+
+	/**
+	 * Runs the server from the command line until it is stopped.
+	 * <p>
+	 * Options: -port (default 6390, the MetaEdit+ API port), -graphs (1000), -depth (4),
+	 * -fanout (5), -sharing (0.2), -types (5), -seed (1), -latency in ms (0) and
+	 * -threads (16).
+	 */
+	public static void main(String[] args) throws Exception {
+		int portNumber = 6390, graphs = 1000, depth = 4, fanout = 5, types = 5, threads = 16;
+		double sharing = 0.2;
+		long seed = 1, latency = 0;
+		for (int i = 0; i + 1 < args.length; i += 2) {
+			String option = args[i], value = args[i + 1];
+			if (option.equals("-port")) portNumber = Integer.parseInt(value);
+			else if (option.equals("-graphs")) graphs = Integer.parseInt(value);
+			else if (option.equals("-depth")) depth = Integer.parseInt(value);
+			else if (option.equals("-fanout")) fanout = Integer.parseInt(value);
+			else if (option.equals("-sharing")) sharing = Double.parseDouble(value);
+			else if (option.equals("-types")) types = Integer.parseInt(value);
+			else if (option.equals("-seed")) seed = Long.parseLong(value);
+			else if (option.equals("-latency")) latency = Long.parseLong(value);
+			else if (option.equals("-threads")) threads = Integer.parseInt(value);
+			else throw new IllegalArgumentException("Unknown option " + option);
+		}
+		SyntheticRepository repository = new SyntheticRepository(graphs, depth, fanout, sharing, types, seed);
+		FakeMetaEditServer server = new FakeMetaEditServer(new FakeMetaEditPort(repository, latency));
+		server.setThreads(threads);
+		server.start(portNumber);
+		System.out.println("Fake MetaEdit+ API at " + server.getEndpoint() + ": " + repository.getGraphCount()
+			+ " graphs, " + repository.pathCount() + " tree items when fully opened.");
+		// The serving threads are daemons, so keep the process running.
+		Thread.sleep(Long.MAX_VALUE);
+	}
+}
@@ -0,0 +1,271 @@
+/*
+ * Copyright (c) 2011 MetaCase Consulting
+ * Released under the MIT license. See the file license.txt for details.
+ */
+
+package com.metacase.fakeserver;
+
+import java.util.*;
+
+import com.metacase.API.*;
+
+/**
+ * Synthetic MetaEdit+ repository served by the fake MetaEdit+ API. The graphs are
+ * arranged on levels, and each graph that is not on the last level has subgraphs on
+ * the next level. Part of the subgraphs are shared: they are subgraphs of more than one
+ * graph, as reused decompositions are in real models. The same seed always gives the
+ * same repository.
+ */
+public class SyntheticRepository {
+
+	public static final int AREA_ID = 1;
+	public static final String GRAPH_TYPE = "Graph";
+
+	private int graphCount;
+	private int depth;
+	private int fanout;
+	private double sharing;
+	private int typeCount;
+	private int[][] children;
+	private int[] types;
+	private String[] names;
+	private long[] timeStamps;
+
+	/**
+	 * Creates the repository.
+	 * @param graphCount number of graphs.
+	 * @param depth number of levels of subgraphs, at least 1.
+	 * @param fanout number of subgraphs of each graph not on the last level.
+	 * @param sharing share of subgraph links, from 0 to 1, that go to a subgraph already
+	 * used by another graph.
+	 * @param typeCount number of graph types.
+	 * @param seed seed for the random choices.
+	 */
+	public SyntheticRepository(int graphCount, int depth, int fanout, double sharing, int typeCount, long seed) {
+		this.graphCount = Math.max(0, graphCount);
+		this.depth = Math.max(1, depth);
+		this.fanout = Math.max(0, fanout);
+		this.sharing = Math.min(1, Math.max(0, sharing));
+		this.typeCount = Math.max(1, typeCount);
+		generate(new Random(seed));
+	}
+
+	/**
+	 * Creates a repository of the given size with 4 levels, 5 subgraphs per graph,
+	 * 20% shared subgraphs and 5 graph types.
+	 * @param graphCount number of graphs.
+	 */
+	public SyntheticRepository(int graphCount) {
+		this(graphCount, 4, 5, 0.2, 5, 1);
+	}
+
+	private void generate(Random random) {
+		children = new int[graphCount][];
+		types = new int[graphCount];
+		names = new String[graphCount];
+		timeStamps = new long[graphCount];
+		long time = 1300000000000L;
+		for (int i = 0; i < graphCount; i++) {
+			types[i] = i % typeCount;
+			names[i] = "Graph " + (i + 1);
+			timeStamps[i] = time + i * 1000L;
+		}
+		// Graphs [levelStart[l], levelStart[l + 1]) are on level l.
+		int[] levelStart = new int[depth + 1];
+		for (int l = 0; l <= depth; l++) {
+			levelStart[l] = (int) ((long) graphCount * l / depth);
+		}
+		for (int l = 0; l < depth; l++) {
+			int next = l + 1 < depth ? levelStart[l + 1] : -1;
+			int nextEnd = l + 1 < depth ? levelStart[l + 2] : -1;
+			ArrayList<Integer> used = new ArrayList<Integer>();
+			int unused = next;
+			for (int g = levelStart[l]; g < levelStart[l + 1]; g++) {
+				if (next < 0 || next == nextEnd) {
+					children[g] = new int[0];
+					continue;
+				}
+				LinkedHashSet<Integer> subgraphs = new LinkedHashSet<Integer>();
+				for (int c = 0; c < fanout && subgraphs.size() < nextEnd - next; c++) {
+					Integer child = null;
+					if (!used.isEmpty() && (unused == nextEnd || random.nextDouble() < sharing)) {
+						child = used.get(random.nextInt(used.size()));
+						if (subgraphs.contains(child)) child = null;
+					}
+					if (child == null && unused < nextEnd) {
+						child = unused++;
+						used.add(child);
+					}
+					while (child == null || subgraphs.contains(child)) {
+						child = next + random.nextInt(nextEnd - next);
+					}
+					subgraphs.add(child);
+				}
+				children[g] = new int[subgraphs.size()];
+				int i = 0;
+				for (int child : subgraphs) {
+					children[g][i++] = child;
+				}
+			}
+		}
+	}
+
+	/**
+	 * @return number of graphs.
+	 */
+	public int getGraphCount() {
+		return graphCount;
+	}
+
+	/**
+	 * @return number of levels of subgraphs.
+	 */
+	public int getDepth() {
+		return depth;
+	}
+
+	/**
+	 * @return number of subgraphs of each graph not on the last level.
+	 */
+	public int getFanout() {
+		return fanout;
+	}
+
+	/**
+	 * @return share of subgraph links that go to an already used subgraph.
+	 */
+	public double getSharing() {
+		return sharing;
+	}
+
+	/**
+	 * @return number of graph types.
+	 */
+	public int getTypeCount() {
+		return typeCount;
+	}
+
+	/**
+	 * Gets the index of a graph.
+	 * @param m MEOop of the graph.
+	 * @return index of the graph, or -1 if there is no such graph.
+	 */
+	public int indexOf(MEOop m) {
+		if (m == null || m.getAreaID() != AREA_ID) return -1;
+		int index = m.getObjectID() - 1;
+		return (index >= 0 && index < graphCount) ? index : -1;
+	}
+
+	/**
+	 * Gets the MEOop of a graph.
+	 * @param index index of the graph.
+	 * @return the MEOop.
+	 */
+	public MEOop meOop(int index) {
+		return new MEOop(AREA_ID, index + 1);
+	}
+
+	/**
+	 * @return MEOops of all graphs.
+	 */
+	public MEOop[] allGraphs() {
+		MEOop[] meOops = new MEOop[graphCount];
+		for (int i = 0; i < graphCount; i++) {
+			meOops[i] = meOop(i);
+		}
+		return meOops;
+	}
+
+	/**
+	 * Gets the subgraphs of a graph.
+	 * @param index index of the graph.
+	 * @return MEOops of the subgraphs.
+	 */
+	public MEOop[] subgraphs(int index) {
+		int[] c = children[index];
+		MEOop[] meOops = new MEOop[c.length];
+		for (int i = 0; i < c.length; i++) {
+			meOops[i] = meOop(c[i]);
+		}
+		return meOops;
+	}
+
+	/**
+	 * @param index index of the graph.
+	 * @return the name of the graph.
+	 */
+	public synchronized String name(int index) {
+		return names[index];
+	}
+
+	/**
+	 * @param index index of the graph.
+	 * @return name of the graph type of the graph, as used in METypes.
+	 */
+	public String type(int index) {
+		return typeName(types[index]).replace(' ', '_');
+	}
+
+	/**
+	 * Gets the user visible name of a graph type.
+	 * @param type the graph type, as used in METypes.
+	 * @return the type name, or null if there is no such type.
+	 */
+	public String typeNameOf(String type) {
+		// The supertype of all graph types, which the plugin asks to check the API answers.
+		if (GRAPH_TYPE.equals(type)) return GRAPH_TYPE;
+		for (int t = 0; t < typeCount; t++) {
+			if (typeName(t).replace(' ', '_').equals(type)) return typeName(t);
+		}
+		return null;
+	}
+
+	private static String typeName(int type) {
+		return "Graph Type " + (type + 1);
+	}
+
+	/**
+	 * @param index index of the graph.
+	 * @return modification time of the graph in milliseconds.
+	 */
+	public synchronized long timeStamp(int index) {
+		return timeStamps[index];
+	}
+
+	/**
+	 * Changes a graph, as if it were edited in MetaEdit+: renames it and updates
+	 * its time stamp.
+	 * @param index index of the graph.
+	 * @param name the new name.
+	 */
+	public synchronized void rename(int index, String name) {
+		names[index] = name;
+		timeStamps[index] = Math.max(System.currentTimeMillis(), timeStamps[index] + 1);
+	}
+
+	/**
+	 * Counts the number of graph paths from the graphs that are not subgraphs, that is
+	 * the number of items a fully opened graph tree would have.
+	 * @return number of paths, or Long.MAX_VALUE if there are more.
+	 */
+	public long pathCount() {
+		long[] paths = new long[graphCount];
+		boolean[] isChild = new boolean[graphCount];
+		for (int[] c : children) {
+			for (int child : c) {
+				isChild[child] = true;
+			}
+		}
+		// Subgraphs are always on a later level, so the graphs can be counted backwards.
+		long total = 0;
+		for (int g = graphCount - 1; g >= 0; g--) {
+			long p = 1;
+			for (int child : children[g]) {
+				p = Math.min(Long.MAX_VALUE / 2, p + paths[child]);
+			}
+			paths[g] = p;
+			if (!isChild[g]) total = Math.min(Long.MAX_VALUE / 2, total + p);
+		}
+		return total;
+	}
+}
@@ -0,0 +1,257 @@
+/*
+ * Copyright (c) 2011 MetaCase Consulting
+ * Released under the MIT license. See the file license.txt for details.
+ */
+
+package com.metacase.API;
+
+import static org.junit.Assert.*;
+
+import java.io.*;
+import java.net.*;
+import java.rmi.RemoteException;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.metacase.fakeserver.FakeMetaEditPort;
+import com.metacase.fakeserver.FakeMetaEditServer;
+import com.metacase.fakeserver.SyntheticRepository;
+
+/**
+ * PooledHTTPSender against the fake MetaEdit+ server. The calls go through a proxy that
+ * counts the connections and can close them like a server closing idle connections, so
+ * the tests see whether connections are reused, and which calls are sent again when the
+ * server closes the connection.
+ */
+public class PooledHTTPSenderTest {
+
+	private static final Set<String> READ_ONLY = new HashSet<String>(Arrays.asList("userPrintString", "subgraphs"));
+
+	/**
+	 * Forwards the HTTP requests of each connection to the server on a connection of
+	 * its own, one request at a time.
+	 */
+	private static class Proxy implements Runnable {
+		private final ServerSocket serverSocket;
+		private final int serverPort;
+		private final AtomicInteger connections = new AtomicInteger();
+		private final AtomicBoolean dropNext = new AtomicBoolean();
+		private final List<Socket> sockets = Collections.synchronizedList(new ArrayList<Socket>());
+
+		Proxy(int serverPort) throws IOException {
+			this.serverPort = serverPort;
+			this.serverSocket = new ServerSocket(0, 50, InetAddress.getByName("localhost"));
+			Thread t = new Thread(this, "Proxy");
+			t.setDaemon(true);
+			t.start();
+		}
+
+		String endpoint() {
+			return "http://localhost:" + serverSocket.getLocalPort() + "/" + FakeMetaEditServer.SERVICE_NAME;
+		}
+
+		public void run() {
+			try {
+				while (true) {
+					final Socket client = serverSocket.accept();
+					connections.incrementAndGet();
+					sockets.add(client);
+					Thread t = new Thread("Proxy connection") {
+						public void run() {
+							forward(client);
+						}
+					};
+					t.setDaemon(true);
+					t.start();
+				}
+			} catch (IOException e) {
+				// Closed.
+			}
+		}
+
+		private void forward(Socket client) {
+			Socket server = null;
+			try {
+				server = new Socket("localhost", serverPort);
+				InputStream clientIn = new BufferedInputStream(client.getInputStream());
+				InputStream serverIn = new BufferedInputStream(server.getInputStream());
+				byte[] request;
+				while ((request = readMessage(clientIn)) != null) {
+					// Like a server closing the connection after the request came.
+					if (dropNext.getAndSet(false)) break;
+					server.getOutputStream().write(request);
+					byte[] response = readMessage(serverIn);
+					if (response == null) break;
+					client.getOutputStream().write(response);
+				}
+			} catch (IOException e) {
+				// Closed.
+			} finally {
+				close(client);
+				close(server);
+			}
+		}
+
+		/**
+		 * Closes the connections, like a server closing idle connections.
+		 */
+		void closeConnections() {
+			synchronized (sockets) {
+				for (Socket s : sockets) {
+					close(s);
+				}
+				sockets.clear();
+			}
+		}
+
+		void close() {
+			close(serverSocket);
+			closeConnections();
+		}
+
+		// ServerSocket and Socket are not Closeable in Java 6.
+		private static void close(ServerSocket s) {
+			try {
+				s.close();
+			} catch (IOException e) { }
+		}
+
+		private static void close(Socket s) {
+			try {
+				if (s != null) s.close();
+			} catch (IOException e) { }
+		}
+
+		/**
+		 * Reads the header and the Content-Length bytes of the body.
+		 * @return the message, or null at the end of the stream.
+		 */
+		private static byte[] readMessage(InputStream in) throws IOException {
+			ByteArrayOutputStream message = new ByteArrayOutputStream();
+			int length = 0;
+			String line;
+			boolean first = true;
+			while ((line = readLine(in)) != null) {
+				first = false;
+				message.write((line + "\r\n").getBytes("ISO-8859-1"));
+				if (line.length() == 0) break;
+				if (line.toLowerCase(Locale.ENGLISH).startsWith("content-length:")) {
+					length = Integer.parseInt(line.substring(15).trim());
+				}
+			}
+			if (first) return null;
+			for (int i = 0; i < length; i++) {
+				int b = in.read();
+				if (b < 0) throw new EOFException();
+				message.write(b);
+			}
+			return message.toByteArray();
+		}
+
+		private static String readLine(InputStream in) throws IOException {
+			StringBuilder sb = new StringBuilder();
+			int b;
+			while ((b = in.read()) != '\n') {
+				if (b < 0) return sb.length() == 0 ? null : sb.toString();
+				if (b != '\r') sb.append((char) b);
+			}
+			return sb.toString();
+		}
+	}
+
+	private SyntheticRepository repository;
+	private FakeMetaEditPort fake;
+	private FakeMetaEditServer server;
+	private Proxy proxy;
+	private PooledHTTPSender sender;
+
+	@Before
+	public void startServer() throws Exception {
+		repository = new SyntheticRepository(10);
+		fake = new FakeMetaEditPort(repository, 0);
+		server = new FakeMetaEditServer(fake);
+		server.start(0);
+		proxy = new Proxy(server.getPortNumber());
+	}
+
+	@After
+	public void stopServer() {
+		if (sender != null) sender.close();
+		proxy.close();
+		server.stop();
+	}
+
+	private MetaEditAPIPortType port(int poolSize, int requestTimeout) throws Exception {
+		sender = new PooledHTTPSender(poolSize, 60000, requestTimeout, READ_ONLY);
+		return new MetaEditAPILocator(sender.createConfiguration()).getMetaEditAPIPort(new URL(proxy.endpoint()));
+	}
+
+	@Test
+	public void reusesConnections() throws Exception {
+		MetaEditAPIPortType port = port(2, 0);
+		for (int i = 0; i < 10; i++) {
+			assertEquals(repository.name(i), port.userPrintString(repository.meOop(i)));
+		}
+		assertEquals(1, proxy.connections.get());
+		assertEquals(10, fake.getCallCount("userPrintString"));
+	}
+
+	@Test
+	public void resendsReadOnlyCallOnClosedConnection() throws Exception {
+		MetaEditAPIPortType port = port(1, 0);
+		port.userPrintString(repository.meOop(0));
+		proxy.dropNext.set(true);
+		assertEquals(repository.name(1), port.userPrintString(repository.meOop(1)));
+		assertEquals(2, proxy.connections.get());
+		assertEquals(2, fake.getCallCount("userPrintString"));
+	}
+
+	@Test
+	public void doesNotResendChangingCallOnClosedConnection() throws Exception {
+		MetaEditAPIPortType port = port(1, 0);
+		port.userPrintString(repository.meOop(0));
+		proxy.dropNext.set(true);
+		try {
+			port.forGraphRun(repository.meOop(0), "Autobuild");
+			fail("forGraphRun was sent again");
+		} catch (RemoteException e) {
+			// MetaEdit+ may have run it, so it must not run again.
+		}
+		assertEquals(1, proxy.connections.get());
+		assertEquals(0, fake.getCallCount("forGraphRun"));
+		// The next call gets a new connection.
+		assertTrue(port.forGraphRun(repository.meOop(0), "Autobuild"));
+		assertEquals(1, fake.getCallCount("forGraphRun"));
+	}
+
+	@Test
+	public void checksIdleConnectionBeforeChangingCall() throws Exception {
+		MetaEditAPIPortType port = port(1, 0);
+		port.userPrintString(repository.meOop(0));
+		proxy.closeConnections();
+		Thread.sleep(1500);
+		port.open(repository.meOop(0));
+		assertEquals(2, proxy.connections.get());
+		assertEquals(1, fake.getCallCount("open"));
+	}
+
+	@Test
+	public void requestTimeout() throws Exception {
+		MetaEditAPIPortType port = port(1, 200);
+		fake.setLatencyMillis(2000);
+		long start = System.currentTimeMillis();
+		try {
+			port.userPrintString(repository.meOop(0));
+			fail("No timeout");
+		} catch (RemoteException e) {
+			assertTrue(System.currentTimeMillis() - start < 1500);
+		}
+		fake.setLatencyMillis(0);
+		assertEquals(repository.name(1), port.userPrintString(repository.meOop(1)));
+	}
+}
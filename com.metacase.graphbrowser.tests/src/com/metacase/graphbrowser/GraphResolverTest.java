@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2011 MetaCase Consulting
+ * Released under the MIT license. See the file license.txt for details.
+ */
+
+package com.metacase.graphbrowser;
+
+import static org.junit.Assert.*;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.rmi.RemoteException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.metacase.API.MEOop;
+import com.metacase.API.MetaEditAPIPortType;
+import com.metacase.objects.Graph;
+import com.metacase.objects.TestGraphs;
+
+/**
+ * GraphResolver against test graphs in the same process: time stamps are
+ * only turned off when MetaEdit+ does not have the timeStamp operation.
+ */
+public class GraphResolverTest {
+
+	private TestGraphs graphs;
+	private GraphResolver resolver;
+	private AtomicInteger timeStampCalls = new AtomicInteger();
+
+	@Before
+	public void setUp() {
+		Graph.resetCaches();
+		graphs = TestGraphs.chain(10, false);
+	}
+
+	@After
+	public void tearDown() {
+		if (resolver != null) resolver.shutdown();
+	}
+
+	@Test
+	public void failedTimeStampKeepsTimeStamps() {
+		resolver = new GraphResolver(graphs.port(), 2, 2);
+		MEOop missing = new MEOop();
+		missing.setAreaID(TestGraphs.AREA_ID);
+		missing.setObjectID(1000);
+		long[] timeStamps = resolver.timeStamps(new MEOop[] { missing, graphs.meOop(1) });
+		assertEquals(0, timeStamps[0]);
+		assertEquals(graphs.timeStamp(1), timeStamps[1]);
+		assertEquals(graphs.timeStamp(2), resolver.timeStamps(new MEOop[] { graphs.meOop(2) })[0]);
+	}
+
+	@Test
+	public void missingOperationTurnsTimeStampsOff() {
+		resolver = new GraphResolver(withoutTimeStamp(graphs.port()), 1, 1);
+		assertEquals(0, resolver.timeStamps(new MEOop[] { graphs.meOop(1) })[0]);
+		assertEquals(0, resolver.timeStamps(new MEOop[] { graphs.meOop(2) })[0]);
+		assertEquals(1, timeStampCalls.get());
+	}
+
+	@Test
+	public void resolvesAfterShutdown() {
+		resolver = new GraphResolver(graphs.port(), 2, 2);
+		assertNotNull(resolver.resolve(new MEOop[] { graphs.meOop(1) })[0]);
+		resolver.shutdown();
+		assertEquals(graphs.name(2), resolver.resolve(new MEOop[] { graphs.meOop(2) })[0].getName());
+	}
+
+	/**
+	 * Gets a port that faults the timeStamp calls like an older MetaEdit+.
+	 */
+	private MetaEditAPIPortType withoutTimeStamp(final MetaEditAPIPortType port) {
+		return (MetaEditAPIPortType) Proxy.newProxyInstance(MetaEditAPIPortType.class.getClassLoader(),
+				new Class<?>[] { MetaEditAPIPortType.class },
+				new InvocationHandler() {
+					public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+						if (method.getName().equals("timeStamp")) {
+							timeStampCalls.incrementAndGet();
+							throw new RemoteException("No such operation 'timeStamp'");
+						}
+						try {
+							return method.invoke(port, args);
+						} catch (InvocationTargetException e) {
+							throw e.getCause();
+						}
+					}
+				});
+	}
+}
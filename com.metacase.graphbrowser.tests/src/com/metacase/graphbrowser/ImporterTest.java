@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2011 MetaCase Consulting
+ * Released under the MIT license. See the file license.txt for details.
+ */
+
+package com.metacase.graphbrowser;
+
+import static org.junit.Assert.*;
+
+import java.io.*;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Moving the files of a generator run directory to the MetaEdit+ working directory.
+ */
+public class ImporterTest {
+
+	private File workingDirectory;
+
+	@Before
+	public void createWorkingDirectory() throws IOException {
+		workingDirectory = File.createTempFile("metaedit", "");
+		workingDirectory.delete();
+		assertTrue(workingDirectory.mkdirs());
+	}
+
+	@After
+	public void removeWorkingDirectory() {
+		Importer.removeRunDirectory(workingDirectory);
+	}
+
+	private static void write(File f, String text) throws IOException {
+		f.getParentFile().mkdirs();
+		Writer w = new OutputStreamWriter(new FileOutputStream(f), "UTF-8");
+		try {
+			w.write(text);
+		} finally {
+			w.close();
+		}
+	}
+
+	private static String read(File f) throws IOException {
+		BufferedReader r = new BufferedReader(new InputStreamReader(new FileInputStream(f), "UTF-8"));
+		try {
+			return r.readLine();
+		} finally {
+			r.close();
+		}
+	}
+
+	@Test
+	public void movesFilesAndRemovesRunDirectory() throws IOException {
+		File run = Importer.createRunDirectory(workingDirectory.getPath());
+		write(new File(run, "plugin.ini"), "IDE=eclipse");
+		write(new File(run, "report.txt"), "new");
+		write(new File(run, "src/Main.java"), "class Main {}");
+		write(new File(workingDirectory, "report.txt"), "old");
+		assertNull(Importer.finishRunDirectory(run, workingDirectory.getPath()));
+		assertFalse(run.exists());
+		assertEquals("new", read(new File(workingDirectory, "report.txt")));
+		assertEquals("class Main {}", read(new File(workingDirectory, "src/Main.java")));
+		assertFalse(new File(workingDirectory, "plugin.ini").exists());
+	}
+
+	@Test
+	public void keepsRunDirectoryWhenMoveFails() throws IOException {
+		File run = Importer.createRunDirectory(workingDirectory.getPath());
+		write(new File(run, "report.txt"), "new");
+		write(new File(run, "src/Main.java"), "class Main {}");
+		// A file where the generated directory should go.
+		write(new File(workingDirectory, "src"), "not a directory");
+		File kept = Importer.finishRunDirectory(run, workingDirectory.getPath());
+		assertNotNull(kept);
+		assertEquals("class Main {}", read(new File(kept, "src/Main.java")));
+		assertEquals("new", read(new File(workingDirectory, "report.txt")));
+		// Not removed as a stale run directory by the next run.
+		assertTrue(kept.getName().startsWith("kept-"));
+	}
+}
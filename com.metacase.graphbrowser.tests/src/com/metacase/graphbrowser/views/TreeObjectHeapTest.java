@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2011 MetaCase Consulting
+ * Released under the MIT license. See the file license.txt for details.
+ */
+
+package com.metacase.graphbrowser.views;
+
+import static org.junit.Assert.*;
+
+import java.util.*;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.metacase.graphbrowser.GraphHandler;
+import com.metacase.graphbrowser.GraphLoader;
+import com.metacase.objects.Graph;
+import com.metacase.objects.TestGraphs;
+
+/**
+ * Heap used by the tree objects of GraphView on a repository where most subgraphs are
+ * shared. A tree object only refers to its parent and to the graph, so opening the top
+ * two levels must take a few dozen bytes for each opened item, however large the fully
+ * opened tree would be, and a subgraph shown under many parents is the same Graph.
+ */
+public class TreeObjectHeapTest {
+
+	private static final int GRAPHS_PER_LEVEL = 2000;
+	// Generous, as a tree object takes about 40 bytes and the measurement is not exact.
+	private static final long BYTES_PER_ITEM = 100;
+
+	private TestGraphs graphs;
+	private Graph[] loaded;
+
+	@Before
+	public void loadGraphs() {
+		Graph.resetCaches();
+		graphs = TestGraphs.levels(GRAPHS_PER_LEVEL, 6, 8, 1);
+		loaded = new GraphLoader(graphs.port(), 4, 8, false).load(graphs.meOops());
+	}
+
+	@After
+	public void resetCaches() {
+		Graph.resetCaches();
+	}
+
+	@Test
+	public void openingTopLevelsDoesNotCopySharedSubtrees() {
+		Graph[] top = GraphHandler.topLevelGraphs(Arrays.asList(loaded));
+		GraphView view = new GraphView();
+		long before = usedHeap();
+		GraphView.TreeObject root = view.new TreeObject();
+		// Kept like the items of an opened tree.
+		ArrayList<GraphView.TreeObject> opened = new ArrayList<GraphView.TreeObject>();
+		for (GraphView.TreeObject to : root.addGraphs(top)) {
+			opened.add(to);
+			for (GraphView.TreeObject child : to.getChildren()) {
+				opened.add(child);
+				opened.addAll(Arrays.asList(child.getChildren()));
+			}
+		}
+		long used = usedHeap() - before;
+		assertTrue(graphs.pathCount() > 20 * opened.size());
+		assertTrue(used / 1024 + " KB for " + opened.size() + " items",
+				used < BYTES_PER_ITEM * opened.size() + 1024 * 1024);
+
+		// The same subgraph under different parents is one Graph.
+		IdentityHashMap<Graph, Graph> graphs = new IdentityHashMap<Graph, Graph>();
+		HashMap<Long, Graph> byKey = new HashMap<Long, Graph>();
+		for (GraphView.TreeObject to : opened) {
+			Graph g = to.getGraph();
+			graphs.put(g, g);
+			Graph other = byKey.put(g.getKey(), g);
+			assertTrue(other == null || other == g);
+		}
+		assertTrue(graphs.size() < opened.size());
+		assertEquals(root, opened.get(0).getParent());
+	}
+
+	private static long usedHeap() {
+		Runtime runtime = Runtime.getRuntime();
+		long used = Long.MAX_VALUE;
+		// The smallest of a few measurements after collecting the garbage.
+		for (int i = 0; i < 5; i++) {
+			System.gc();
+			used = Math.min(used, runtime.totalMemory() - runtime.freeMemory());
+		}
+		return used;
+	}
+}
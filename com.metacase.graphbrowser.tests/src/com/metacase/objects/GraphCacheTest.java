@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2011 MetaCase Consulting
+ * Released under the MIT license. See the file license.txt for details.
+ */
+
+package com.metacase.objects;
+
+import static org.junit.Assert.*;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * The graph cache with a size limit: the graphs over the limit are evicted, but a
+ * graph still referred to is found again instead of being created twice.
+ */
+public class GraphCacheTest {
+
+	private static final int LIMIT = 16;
+
+	@Before
+	public void setUp() {
+		Graph.resetCaches();
+		Graph.getCache().setMaxSize(LIMIT);
+	}
+
+	@After
+	public void tearDown() {
+		Graph.getCache().setMaxSize(0);
+		Graph.resetCaches();
+	}
+
+	private static Graph restore(int objectID) {
+		return Graph.restore("Graph " + objectID, "Graph_Type", "Graph Type", 1, objectID);
+	}
+
+	@Test
+	public void keepsEvictedGraphInUse() {
+		GraphCache cache = Graph.getCache();
+		long evictions = cache.getEvictions();
+		Graph first = restore(1);
+		for (int i = 2; i <= 1000; i++) {
+			restore(i);
+		}
+		assertTrue(cache.size() <= LIMIT);
+		assertTrue(cache.getEvictions() - evictions >= 1000 - LIMIT);
+		assertSame(first, Graph.lookup(1, 1));
+		assertSame(first, restore(1));
+		assertTrue(Graph.cachedGraphs().contains(first));
+	}
+
+	@Test
+	public void removesEvictedGraph() {
+		Graph first = restore(1);
+		for (int i = 2; i <= 1000; i++) {
+			restore(i);
+		}
+		Graph.getCache().remove(first.getKey(), first);
+		assertNull(Graph.lookup(1, 1));
+		assertNotSame(first, restore(1));
+	}
+}
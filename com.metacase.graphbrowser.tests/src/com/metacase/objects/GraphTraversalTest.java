@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2011 MetaCase Consulting
+ * Released under the MIT license. See the file license.txt for details.
+ */
+
+package com.metacase.objects;
+
+import static org.junit.Assert.*;
+
+import java.util.*;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.metacase.API.MetaEditAPIPortType;
+import com.metacase.graphbrowser.GraphHandler;
+import com.metacase.graphbrowser.GraphLoader;
+
+/**
+ * GraphLoader.load and GraphHandler.topLevelGraphs on 50,000 graphs, compared with
+ * the sequential load the graph browser first had: the top level graphs and the
+ * children of every graph must be the same. The graphs are visited with work stacks
+ * and key sets, so a chain or cycle of 50,000 subgraphs must not overflow the call
+ * stack, and shared subgraphs are fetched once.
+ */
+public class GraphTraversalTest {
+
+	private static final int GRAPHS = 50000;
+
+	@Before
+	public void resetCaches() {
+		Graph.resetCaches();
+	}
+
+	@Test
+	public void loadMatchesSequentialLoad() {
+		TestGraphs graphs = TestGraphs.random(GRAPHS, 6, 100, 1);
+		Graph[] top = load(graphs);
+		assertEquals(GRAPHS, graphs.getCallCount("subgraphs"));
+		assertEquals(sequentialTopLevel(graphs), indexes(top));
+		Map<Long, Graph> loaded = reachable(top);
+		assertEquals(GRAPHS, loaded.size());
+		for (int i = 0; i < GRAPHS; i++) {
+			Graph g = loaded.get(Graph.key(graphs.meOop(i)));
+			assertEquals(graphs.name(i), g.getName());
+			assertEquals(sequentialChildren(graphs, i), indexes(g.getChildren()));
+		}
+	}
+
+	@Test
+	public void loadWalksDeepChain() {
+		TestGraphs graphs = TestGraphs.chain(GRAPHS, false);
+		Graph[] top = load(graphs);
+		assertEquals(Arrays.asList(0), indexes(top));
+		Graph g = top[0];
+		for (int i = 1; i < GRAPHS; i++) {
+			assertEquals(1, g.getChildren().length);
+			g = g.getChildren()[0];
+			assertEquals(graphs.name(i), g.getName());
+			assertTrue(g.getIsChild());
+		}
+		assertEquals(0, g.getChildren().length);
+	}
+
+	@Test
+	public void topLevelGraphsHandlesDeepCycle() {
+		// Every graph is a subgraph of the previous one and the first of the last,
+		// so one of them must be shown at the top to reach the others.
+		TestGraphs graphs = TestGraphs.chain(GRAPHS, true);
+		Graph[] top = load(graphs);
+		assertEquals(sequentialTopLevel(graphs), indexes(top));
+		assertEquals(1, top.length);
+	}
+
+	private static Graph[] load(TestGraphs graphs) {
+		MetaEditAPIPortType port = graphs.port();
+		Graph[] loaded = new GraphLoader(port, 8, 16, false).load(graphs.meOops());
+		assertEquals(graphs.size(), loaded.length);
+		return GraphHandler.topLevelGraphs(Arrays.asList(loaded));
+	}
+
+	private static List<Integer> indexes(Graph[] graphs) {
+		ArrayList<Integer> indexes = new ArrayList<Integer>();
+		for (Graph g : graphs) {
+			assertEquals(TestGraphs.AREA_ID, g.getAreaID());
+			indexes.add(g.getObjectID() - 1);
+		}
+		return indexes;
+	}
+
+	private static Map<Long, Graph> reachable(Graph[] top) {
+		HashMap<Long, Graph> graphs = new HashMap<Long, Graph>();
+		ArrayDeque<Graph> stack = new ArrayDeque<Graph>(Arrays.asList(top));
+		while (!stack.isEmpty()) {
+			Graph g = stack.pop();
+			Graph other = graphs.put(g.getKey(), g);
+			if (other != null) {
+				assertSame(other, g);
+				continue;
+			}
+			stack.addAll(Arrays.asList(g.getChildren()));
+		}
+		return graphs;
+	}
+
+	/**
+	 * The children of a graph as the sequential load set them: the subgraphs in the
+	 * order MetaEdit+ gives them.
+	 */
+	private static List<Integer> sequentialChildren(TestGraphs graphs, int index) {
+		ArrayList<Integer> children = new ArrayList<Integer>();
+		for (int child : graphs.children(index)) {
+			children.add(child);
+		}
+		return children;
+	}
+
+	/**
+	 * The top level graphs as the sequential load found them: the graphs that are not
+	 * subgraphs of any graph in the order of allSimilarInstances, and then, going
+	 * through the graphs from the most subgraphs to the fewest, each graph not yet
+	 * reachable from the top level.
+	 */
+	private static List<Integer> sequentialTopLevel(TestGraphs graphs) {
+		int n = graphs.size();
+		boolean[] isChild = new boolean[n];
+		ArrayList<Integer> order = new ArrayList<Integer>();
+		for (int i = 0; i < n; i++) {
+			for (int child : sequentialChildren(graphs, i)) {
+				isChild[child] = true;
+			}
+			order.add(i);
+		}
+		ArrayList<Integer> top = new ArrayList<Integer>();
+		for (int i = 0; i < n; i++) {
+			if (!isChild[i]) top.add(i);
+		}
+		final TestGraphs g = graphs;
+		Collections.sort(order, new Comparator<Integer>() {
+			public int compare(Integer i1, Integer i2) {
+				return g.children(i2).length - g.children(i1).length;
+			}
+		});
+		boolean[] reached = new boolean[n];
+		for (int i : top) {
+			reach(graphs, i, reached);
+		}
+		for (int i : order) {
+			if (!reached[i]) {
+				top.add(i);
+				reach(graphs, i, reached);
+			}
+		}
+		return top;
+	}
+
+	private static void reach(TestGraphs graphs, int index, boolean[] reached) {
+		ArrayDeque<Integer> stack = new ArrayDeque<Integer>();
+		stack.push(index);
+		while (!stack.isEmpty()) {
+			int i = stack.pop();
+			if (reached[i]) continue;
+			reached[i] = true;
+			for (int child : graphs.children(i)) {
+				stack.push(child);
+			}
+		}
+	}
+}
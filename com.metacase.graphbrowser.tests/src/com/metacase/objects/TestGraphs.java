@@ -0,0 +1,262 @@
+/*
+ * Copyright (c) 2011 MetaCase Consulting
+ * Released under the MIT license. See the file license.txt for details.
+ */
+
+package com.metacase.objects;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.rmi.RemoteException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.metacase.API.*;
+
+/**
+ * Graphs for the tests, given as a table of the subgraphs of each graph, and a
+ * MetaEditAPIPortType that answers the API calls made when loading them, in the
+ * same process. Graph i has the object ID i + 1, and the calls are counted by
+ * operation.
+ */
+public class TestGraphs {
+
+	public static final int AREA_ID = 1;
+
+	private final int[][] children;
+	private final ConcurrentHashMap<String, AtomicInteger> calls = new ConcurrentHashMap<String, AtomicInteger>();
+
+	/**
+	 * Constructor.
+	 * @param children indexes of the subgraphs of each graph.
+	 */
+	public TestGraphs(int[][] children) {
+		this.children = children;
+	}
+
+	/**
+	 * Creates graphs where graph i has graph i + 1 as its only subgraph.
+	 * @param count number of graphs.
+	 * @param cycle true if the last graph has the first one as its subgraph.
+	 * @return the graphs.
+	 */
+	public static TestGraphs chain(int count, boolean cycle) {
+		int[][] children = new int[count][];
+		for (int i = 0; i < count; i++) {
+			children[i] = (i + 1 < count || cycle) ? new int[] { (i + 1) % count } : new int[0];
+		}
+		return new TestGraphs(children);
+	}
+
+	/**
+	 * Creates graphs with random subgraphs. The subgraphs of a graph are chosen
+	 * from the next graphs, so many of them are shared. Then the given number of
+	 * graphs that are not subgraphs get a subgraph of theirs, or they themselves,
+	 * as their subgraph, making cycles that can only be reached through them.
+	 * @param count number of graphs.
+	 * @param fanout largest number of subgraphs of a graph.
+	 * @param cycles number of cycles.
+	 * @param seed seed for the random choices.
+	 * @return the graphs.
+	 */
+	public static TestGraphs random(int count, int fanout, int cycles, long seed) {
+		Random random = new Random(seed);
+		int[][] children = new int[count][];
+		boolean[] isChild = new boolean[count];
+		for (int i = 0; i < count; i++) {
+			LinkedHashSet<Integer> subgraphs = new LinkedHashSet<Integer>();
+			int n = Math.min(random.nextInt(fanout + 1), count - i - 1);
+			while (subgraphs.size() < n) {
+				subgraphs.add(i + 1 + random.nextInt(Math.min(count - i - 1, 4 * fanout)));
+			}
+			children[i] = toArray(subgraphs);
+			for (int child : children[i]) {
+				isChild[child] = true;
+			}
+		}
+		ArrayList<Integer> roots = new ArrayList<Integer>();
+		for (int i = 0; i < count; i++) {
+			if (!isChild[i]) roots.add(i);
+		}
+		for (int c = 0; c < cycles && !roots.isEmpty(); c++) {
+			int root = roots.remove(random.nextInt(roots.size()));
+			int last = root;
+			for (int step = random.nextInt(4); step > 0 && children[last].length > 0; step--) {
+				last = children[last][random.nextInt(children[last].length)];
+			}
+			int[] subgraphs = Arrays.copyOf(children[last], children[last].length + 1);
+			subgraphs[subgraphs.length - 1] = root;
+			children[last] = subgraphs;
+		}
+		return new TestGraphs(children);
+	}
+
+	/**
+	 * Creates graphs on levels of the same size, where each graph not on the last
+	 * level has random subgraphs on the next level. Most subgraphs are shared by
+	 * several graphs, so a fully opened tree has far more items than there are graphs.
+	 * @param perLevel number of graphs on each level.
+	 * @param depth number of levels.
+	 * @param fanout number of subgraphs of each graph not on the last level.
+	 * @param seed seed for the random choices.
+	 * @return the graphs.
+	 */
+	public static TestGraphs levels(int perLevel, int depth, int fanout, long seed) {
+		Random random = new Random(seed);
+		int[][] children = new int[perLevel * depth][];
+		for (int i = 0; i < children.length; i++) {
+			int next = (i / perLevel + 1) * perLevel;
+			LinkedHashSet<Integer> subgraphs = new LinkedHashSet<Integer>();
+			while (next < children.length && subgraphs.size() < Math.min(fanout, perLevel)) {
+				subgraphs.add(next + random.nextInt(perLevel));
+			}
+			children[i] = toArray(subgraphs);
+		}
+		return new TestGraphs(children);
+	}
+
+	private static int[] toArray(Collection<Integer> c) {
+		int[] a = new int[c.size()];
+		int i = 0;
+		for (int x : c) {
+			a[i++] = x;
+		}
+		return a;
+	}
+
+	/**
+	 * @return number of graphs.
+	 */
+	public int size() {
+		return children.length;
+	}
+
+	/**
+	 * @param index index of the graph.
+	 * @return indexes of the subgraphs of the graph.
+	 */
+	public int[] children(int index) {
+		return children[index];
+	}
+
+	/**
+	 * Counts the paths from the graphs that are not subgraphs, that is the number
+	 * of items a fully opened graph tree would have. The subgraphs of each graph
+	 * must come after it, as they do without cycles.
+	 * @return number of paths.
+	 */
+	public long pathCount() {
+		long[] paths = new long[children.length];
+		boolean[] isChild = new boolean[children.length];
+		long total = 0;
+		for (int i = children.length - 1; i >= 0; i--) {
+			paths[i] = 1;
+			for (int child : children[i]) {
+				paths[i] += paths[child];
+				isChild[child] = true;
+			}
+		}
+		for (int i = 0; i < children.length; i++) {
+			if (!isChild[i]) total += paths[i];
+		}
+		return total;
+	}
+
+	/**
+	 * @param index index of the graph.
+	 * @return the MEOop of the graph.
+	 */
+	public MEOop meOop(int index) {
+		return new MEOop(AREA_ID, index + 1);
+	}
+
+	/**
+	 * @return MEOops of all graphs, as allSimilarInstances gives them.
+	 */
+	public MEOop[] meOops() {
+		MEOop[] meOops = new MEOop[children.length];
+		for (int i = 0; i < meOops.length; i++) {
+			meOops[i] = meOop(i);
+		}
+		return meOops;
+	}
+
+	/**
+	 * @param index index of the graph.
+	 * @return the name of the graph.
+	 */
+	public String name(int index) {
+		return "Graph " + (index + 1);
+	}
+
+	/**
+	 * @param index index of the graph.
+	 * @return the time stamp of the graph in milliseconds.
+	 */
+	public long timeStamp(int index) {
+		return 1300000000000L + index * 1000L;
+	}
+
+	/**
+	 * Gets the number of calls of an operation made through the port.
+	 * @param operation name of the operation.
+	 * @return number of calls.
+	 */
+	public int getCallCount(String operation) {
+		AtomicInteger count = calls.get(operation);
+		return (count == null) ? 0 : count.get();
+	}
+
+	/**
+	 * Gets a port that answers allSimilarInstances, type, typeName, userPrintString,
+	 * subgraphs and timeStamp from the table. The other operations, and the calls for
+	 * graphs not in the table, throw a RemoteException.
+	 * @return the port.
+	 */
+	public MetaEditAPIPortType port() {
+		return (MetaEditAPIPortType) Proxy.newProxyInstance(MetaEditAPIPortType.class.getClassLoader(),
+				new Class<?>[] { MetaEditAPIPortType.class },
+				new InvocationHandler() {
+					public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+						if (method.getDeclaringClass() == Object.class) return method.invoke(this, args);
+						String operation = method.getName();
+						AtomicInteger count = calls.get(operation);
+						if (count == null) {
+							calls.putIfAbsent(operation, new AtomicInteger());
+							count = calls.get(operation);
+						}
+						count.incrementAndGet();
+						return answer(operation, args);
+					}
+				});
+	}
+
+	private Object answer(String operation, Object[] args) throws RemoteException {
+		if (operation.equals("allSimilarInstances")) return meOops();
+		if (operation.equals("typeName")) return ((METype) args[0]).getName().replace('_', ' ');
+		int index = index((MEOop) args[0]);
+		if (operation.equals("type")) return new METype("Graph_Type_" + (index % 3 + 1));
+		if (operation.equals("userPrintString")) return name(index);
+		if (operation.equals("subgraphs")) {
+			MEOop[] subgraphs = new MEOop[children[index].length];
+			for (int i = 0; i < subgraphs.length; i++) {
+				subgraphs[i] = meOop(children[index][i]);
+			}
+			return subgraphs;
+		}
+		if (operation.equals("timeStamp")) {
+			Calendar c = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
+			c.setTimeInMillis(timeStamp(index));
+			return c;
+		}
+		throw new RemoteException("No such operation '" + operation + "'");
+	}
+
+	private int index(MEOop m) throws RemoteException {
+		int index = (m == null || m.getAreaID() != AREA_ID) ? -1 : m.getObjectID() - 1;
+		if (index < 0 || index >= children.length) throw new RemoteException("No such graph");
+		return index;
+	}
+}
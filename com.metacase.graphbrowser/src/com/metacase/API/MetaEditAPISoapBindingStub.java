@@ -23,6 +23,17 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
 
     static org.apache.axis.description.OperationDesc [] _operations;
 
+    // Operation names and SOAP actions are the same for every call of an operation,
+    // so they are created once here instead of for each call.
+    private static final java.lang.String SOAP_ACTION_PREFIX = "http://metacase.com/MetaEditAPI.";
+    private static final java.lang.String OPERATION_NAMESPACE = "http://metacase.com/wsdl/";
+    private static final javax.xml.namespace.QName [] _operationNames;
+    private static final java.lang.String [] _soapActions;
+
+    // Looked up once: Class.forName and getMethod on every call cost more than the
+    // rest of the call preparation. Null when not running on Windows.
+    private static final java.lang.reflect.Method allowSetForegroundWindow = findAllowSetForegroundWindow();
+
     static {
         _operations = new org.apache.axis.description.OperationDesc[138];
         _initOperationDesc1();
@@ -39,6 +50,12 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         _initOperationDesc12();
         _initOperationDesc13();
         _initOperationDesc14();
+        _operationNames = new javax.xml.namespace.QName[_operations.length];
+        _soapActions = new java.lang.String[_operations.length];
+        for (int i = 0; i < _operations.length; i++) {
+            _operationNames[i] = new javax.xml.namespace.QName(OPERATION_NAMESPACE, _operations[i].getName());
+            _soapActions[i] = SOAP_ACTION_PREFIX + _operations[i].getName();
+        }
     }
 
     private static void _initOperationDesc1(){
@@ -1846,7 +1863,6 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         oper.setStyle(org.apache.axis.constants.Style.RPC);
         oper.setUse(org.apache.axis.constants.Use.ENCODED);
         _operations[137] = oper;
-
     }
 
     public MetaEditAPISoapBindingStub() throws org.apache.axis.AxisFault {
@@ -1935,12 +1951,38 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
 
     }
 
-	protected org.apache.axis.client.Call createCall() throws java.rmi.RemoteException {
+	private static java.lang.reflect.Method findAllowSetForegroundWindow() {
 		try {
-			// OS.AllowSetForegroundWindow(-1);
-			Class.forName("org.eclipse.swt.internal.win32.OS").getMethod("AllowSetForegroundWindow", int.class).invoke(null, -1);
-			}
-		catch (Exception e) {}
+			return Class.forName("org.eclipse.swt.internal.win32.OS").getMethod("AllowSetForegroundWindow", int.class);
+		}
+		catch (Exception e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Creates the call for an operation, using the operation name and SOAP action
+	 * created when the class was loaded. Protected for measuring it in the benchmarks.
+	 * @param operation index of the operation in _operations.
+	 */
+	protected org.apache.axis.client.Call createCall(int operation) throws java.rmi.RemoteException {
+		org.apache.axis.client.Call _call = createCall();
+		_call.setOperation(_operations[operation]);
+		_call.setUseSOAPAction(true);
+		_call.setSOAPActionURI(_soapActions[operation]);
+		_call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
+		_call.setOperationName(_operationNames[operation]);
+		return _call;
+	}
+
+	protected org.apache.axis.client.Call createCall() throws java.rmi.RemoteException {
+		if (allowSetForegroundWindow != null) {
+			try {
+				// OS.AllowSetForegroundWindow(-1);
+				allowSetForegroundWindow.invoke(null, -1);
+				}
+			catch (Exception e) {}
+		}
         try {
             org.apache.axis.client.Call _call = super._createCall();
             if (super.maintainSessionSet) {
@@ -2009,12 +2051,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[0]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.allGoodInstances");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "allGoodInstances"));
+        org.apache.axis.client.Call _call = createCall(0);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -2040,12 +2077,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[1]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.allSimilarInstances");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "allSimilarInstances"));
+        org.apache.axis.client.Call _call = createCall(1);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -2071,12 +2103,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[2]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.subTypeNamed");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "subTypeNamed"));
+        org.apache.axis.client.Call _call = createCall(2);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -2102,12 +2129,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[3]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.findString");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "findString"));
+        org.apache.axis.client.Call _call = createCall(3);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -2133,12 +2155,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[4]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.instancesNamed");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "instancesNamed"));
+        org.apache.axis.client.Call _call = createCall(4);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -2164,12 +2181,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[5]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.typeName");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "typeName"));
+        org.apache.axis.client.Call _call = createCall(5);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -2195,12 +2207,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[6]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.type");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "type"));
+        org.apache.axis.client.Call _call = createCall(6);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -2226,12 +2233,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[7]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.userPrintString");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "userPrintString"));
+        org.apache.axis.client.Call _call = createCall(7);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -2257,12 +2259,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[8]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.valueAt");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "valueAt"));
+        org.apache.axis.client.Call _call = createCall(8);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -2288,12 +2285,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[9]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.setValueAt");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "setValueAt"));
+        org.apache.axis.client.Call _call = createCall(9);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -2319,12 +2311,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[10]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.allPropertiesValues");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "allPropertiesValues"));
+        org.apache.axis.client.Call _call = createCall(10);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -2350,12 +2337,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[11]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.allProperties");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "allProperties"));
+        org.apache.axis.client.Call _call = createCall(11);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -2381,12 +2363,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[12]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.allPropertiesWrapped");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "allPropertiesWrapped"));
+        org.apache.axis.client.Call _call = createCall(12);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -2412,12 +2389,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[13]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.instProps");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "instProps"));
+        org.apache.axis.client.Call _call = createCall(13);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -2443,12 +2415,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[14]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.unsafeNew");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "unsafeNew"));
+        org.apache.axis.client.Call _call = createCall(14);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -2474,12 +2441,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[15]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.objectSet");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "objectSet"));
+        org.apache.axis.client.Call _call = createCall(15);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -2505,12 +2467,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[16]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.relationshipSet");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "relationshipSet"));
+        org.apache.axis.client.Call _call = createCall(16);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -2536,12 +2493,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[17]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.roleSet");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "roleSet"));
+        org.apache.axis.client.Call _call = createCall(17);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -2567,12 +2519,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[18]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.bindingSet");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "bindingSet"));
+        org.apache.axis.client.Call _call = createCall(18);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -2598,12 +2545,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[19]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.explodeGraphs");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "explodeGraphs"));
+        org.apache.axis.client.Call _call = createCall(19);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -2629,12 +2571,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[20]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.decompGraphs");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "decompGraphs"));
+        org.apache.axis.client.Call _call = createCall(20);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -2660,12 +2597,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[21]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.subgraphs");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "subgraphs"));
+        org.apache.axis.client.Call _call = createCall(21);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -2691,12 +2623,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[22]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.addExplode");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "addExplode"));
+        org.apache.axis.client.Call _call = createCall(22);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -2722,12 +2649,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[23]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.getExplodeGraphsForNP");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "getExplodeGraphsForNP"));
+        org.apache.axis.client.Call _call = createCall(23);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -2753,12 +2675,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[24]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.removeExplode");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "removeExplode"));
+        org.apache.axis.client.Call _call = createCall(24);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -2784,12 +2701,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[25]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.decompGraph");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "decompGraph"));
+        org.apache.axis.client.Call _call = createCall(25);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -2815,12 +2727,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[26]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.setDecompGraph");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "setDecompGraph"));
+        org.apache.axis.client.Call _call = createCall(26);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -2846,12 +2753,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[27]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.objsForObj");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "objsForObj"));
+        org.apache.axis.client.Call _call = createCall(27);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -2877,12 +2779,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[28]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.objsForRel");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "objsForRel"));
+        org.apache.axis.client.Call _call = createCall(28);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -2908,12 +2805,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[29]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.objsForRole");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "objsForRole"));
+        org.apache.axis.client.Call _call = createCall(29);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -2939,12 +2831,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[30]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.relsForObj");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "relsForObj"));
+        org.apache.axis.client.Call _call = createCall(30);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -2970,12 +2857,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[31]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.relsForRole");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "relsForRole"));
+        org.apache.axis.client.Call _call = createCall(31);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -3001,12 +2883,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[32]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.rolesForObj");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "rolesForObj"));
+        org.apache.axis.client.Call _call = createCall(32);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -3032,12 +2909,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[33]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.rolesForRel");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "rolesForRel"));
+        org.apache.axis.client.Call _call = createCall(33);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -3063,12 +2935,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[34]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.rolesForRole");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "rolesForRole"));
+        org.apache.axis.client.Call _call = createCall(34);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -3094,12 +2961,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[35]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.open");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "open"));
+        org.apache.axis.client.Call _call = createCall(35);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -3125,12 +2987,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[36]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.animate");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "animate"));
+        org.apache.axis.client.Call _call = createCall(36);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -3156,12 +3013,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[37]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.refresh");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "refresh"));
+        org.apache.axis.client.Call _call = createCall(37);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -3187,12 +3039,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[38]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.copiedObjects");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "copiedObjects"));
+        org.apache.axis.client.Call _call = createCall(38);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -3218,12 +3065,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[39]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.delete");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "delete"));
+        org.apache.axis.client.Call _call = createCall(39);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -3249,12 +3091,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[40]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.addToGraph");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "addToGraph"));
+        org.apache.axis.client.Call _call = createCall(40);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -3280,12 +3117,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[41]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.createBinding");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "createBinding"));
+        org.apache.axis.client.Call _call = createCall(41);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -3311,12 +3143,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[42]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.relationship");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "relationship"));
+        org.apache.axis.client.Call _call = createCall(42);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -3342,12 +3169,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[43]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.roles");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "roles"));
+        org.apache.axis.client.Call _call = createCall(43);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -3373,12 +3195,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[44]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.objects");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "objects"));
+        org.apache.axis.client.Call _call = createCall(44);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -3404,12 +3221,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[45]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.diagrams");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "diagrams"));
+        org.apache.axis.client.Call _call = createCall(45);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -3435,12 +3247,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[46]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.matrices");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "matrices"));
+        org.apache.axis.client.Call _call = createCall(46);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -3466,12 +3273,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[47]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.tables");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "tables"));
+        org.apache.axis.client.Call _call = createCall(47);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -3497,12 +3299,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[48]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.newDiagram");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "newDiagram"));
+        org.apache.axis.client.Call _call = createCall(48);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -3528,12 +3325,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[49]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.newMatrix");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "newMatrix"));
+        org.apache.axis.client.Call _call = createCall(49);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -3559,12 +3351,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[50]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.newTable");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "newTable"));
+        org.apache.axis.client.Call _call = createCall(50);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -3590,12 +3377,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[51]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.inst");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "inst"));
+        org.apache.axis.client.Call _call = createCall(51);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -3621,12 +3403,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[52]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.repSet");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "repSet"));
+        org.apache.axis.client.Call _call = createCall(52);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -3652,12 +3429,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[53]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.reprGraph");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "reprGraph"));
+        org.apache.axis.client.Call _call = createCall(53);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -3683,12 +3455,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[54]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.remove");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "remove"));
+        org.apache.axis.client.Call _call = createCall(54);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -3714,12 +3481,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[55]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.timeStamp");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "timeStamp"));
+        org.apache.axis.client.Call _call = createCall(55);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -3745,12 +3507,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[56]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.setTimeStamp");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "setTimeStamp"));
+        org.apache.axis.client.Call _call = createCall(56);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -3776,12 +3533,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[57]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.objectReprs");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "objectReprs"));
+        org.apache.axis.client.Call _call = createCall(57);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -3807,12 +3559,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[58]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.bindingReprs");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "bindingReprs"));
+        org.apache.axis.client.Call _call = createCall(58);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -3838,12 +3585,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[59]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.grid");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "grid"));
+        org.apache.axis.client.Call _call = createCall(59);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -3869,12 +3611,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[60]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.setGrid");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "setGrid"));
+        org.apache.axis.client.Call _call = createCall(60);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -3900,12 +3637,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[61]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.displayGrid");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "displayGrid"));
+        org.apache.axis.client.Call _call = createCall(61);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -3931,12 +3663,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[62]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.setDisplayGrid");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "setDisplayGrid"));
+        org.apache.axis.client.Call _call = createCall(62);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -3962,12 +3689,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[63]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.useGrid");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "useGrid"));
+        org.apache.axis.client.Call _call = createCall(63);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -3993,12 +3715,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[64]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.setUseGrid");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "setUseGrid"));
+        org.apache.axis.client.Call _call = createCall(64);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -4024,12 +3741,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[65]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.place");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "place"));
+        org.apache.axis.client.Call _call = createCall(65);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -4055,12 +3767,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[66]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.setPlace");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "setPlace"));
+        org.apache.axis.client.Call _call = createCall(66);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -4086,12 +3793,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[67]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.scale");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "scale"));
+        org.apache.axis.client.Call _call = createCall(67);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -4117,12 +3819,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[68]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.setScale");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "setScale"));
+        org.apache.axis.client.Call _call = createCall(68);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -4148,12 +3845,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[69]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.isStraight");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "isStraight"));
+        org.apache.axis.client.Call _call = createCall(69);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -4179,12 +3871,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[70]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.straighten");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "straighten"));
+        org.apache.axis.client.Call _call = createCall(70);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -4210,12 +3897,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[71]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.layout");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "layout"));
+        org.apache.axis.client.Call _call = createCall(71);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -4241,12 +3923,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[72]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.addNewObjectRepFor");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "addNewObjectRepFor"));
+        org.apache.axis.client.Call _call = createCall(72);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -4272,12 +3949,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[73]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.addNewBindingRepFor");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "addNewBindingRepFor"));
+        org.apache.axis.client.Call _call = createCall(73);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -4303,12 +3975,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[74]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.connectionReprIds");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "connectionReprIds"));
+        org.apache.axis.client.Call _call = createCall(74);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -4334,12 +4001,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[75]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.addPoint");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "addPoint"));
+        org.apache.axis.client.Call _call = createCall(75);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -4365,12 +4027,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[76]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.putPointAtIndex");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "putPointAtIndex"));
+        org.apache.axis.client.Call _call = createCall(76);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -4396,12 +4053,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[77]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.breakpoints");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "breakpoints"));
+        org.apache.axis.client.Call _call = createCall(77);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -4427,12 +4079,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[78]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.objTargetOffset");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "objTargetOffset"));
+        org.apache.axis.client.Call _call = createCall(78);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -4458,12 +4105,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[79]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.removePoint");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "removePoint"));
+        org.apache.axis.client.Call _call = createCall(79);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -4489,12 +4131,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[80]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.hAxis");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "hAxis"));
+        org.apache.axis.client.Call _call = createCall(80);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -4520,12 +4157,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[81]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.vAxis");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "vAxis"));
+        org.apache.axis.client.Call _call = createCall(81);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -4551,12 +4183,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[82]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.bindSelect");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "bindSelect"));
+        org.apache.axis.client.Call _call = createCall(82);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -4582,12 +4209,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[83]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.setBindSelect");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "setBindSelect"));
+        org.apache.axis.client.Call _call = createCall(83);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -4613,12 +4235,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[84]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.cellDisplayMode");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "cellDisplayMode"));
+        org.apache.axis.client.Call _call = createCall(84);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -4644,12 +4261,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[85]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.setCellDisplayMode");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "setCellDisplayMode"));
+        org.apache.axis.client.Call _call = createCall(85);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -4675,12 +4287,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[86]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.displayStringSelector");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "displayStringSelector"));
+        org.apache.axis.client.Call _call = createCall(86);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -4706,12 +4313,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[87]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.setDisplayStringSelector");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "setDisplayStringSelector"));
+        org.apache.axis.client.Call _call = createCall(87);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -4737,12 +4339,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[88]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.axisDisplayMode");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "axisDisplayMode"));
+        org.apache.axis.client.Call _call = createCall(88);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -4768,12 +4365,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[89]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.setAxisDisplayMode");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "setAxisDisplayMode"));
+        org.apache.axis.client.Call _call = createCall(89);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -4799,12 +4391,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[90]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.showFirst");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "showFirst"));
+        org.apache.axis.client.Call _call = createCall(90);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -4830,12 +4417,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[91]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.setShowFirst");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "setShowFirst"));
+        org.apache.axis.client.Call _call = createCall(91);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -4861,12 +4443,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[92]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.rowLabelsWidth");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "rowLabelsWidth"));
+        org.apache.axis.client.Call _call = createCall(92);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -4892,12 +4469,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[93]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.setRowLabelsWidth");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "setRowLabelsWidth"));
+        org.apache.axis.client.Call _call = createCall(93);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -4923,12 +4495,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[94]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.textStyleSymbol");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "textStyleSymbol"));
+        org.apache.axis.client.Call _call = createCall(94);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -4954,12 +4521,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[95]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.setTextStyleSymbol");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "setTextStyleSymbol"));
+        org.apache.axis.client.Call _call = createCall(95);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -4985,12 +4547,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[96]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.addNewAxisEltFor");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "addNewAxisEltFor"));
+        org.apache.axis.client.Call _call = createCall(96);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -5016,12 +4573,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[97]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.getWidth");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "getWidth"));
+        org.apache.axis.client.Call _call = createCall(97);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -5047,12 +4599,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[98]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.setWidth");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "setWidth"));
+        org.apache.axis.client.Call _call = createCall(98);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -5078,12 +4625,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[99]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.oT");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "oT"));
+        org.apache.axis.client.Call _call = createCall(99);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -5109,12 +4651,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[100]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.baseCollection");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "baseCollection"));
+        org.apache.axis.client.Call _call = createCall(100);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -5140,12 +4677,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[101]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.font");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "font"));
+        org.apache.axis.client.Call _call = createCall(101);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -5171,12 +4703,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[102]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.setFont");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "setFont"));
+        org.apache.axis.client.Call _call = createCall(102);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -5202,12 +4729,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[103]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.gxlWidths");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "gxlWidths"));
+        org.apache.axis.client.Call _call = createCall(103);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -5233,12 +4755,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[104]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.setGxlWidths");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "setGxlWidths"));
+        org.apache.axis.client.Call _call = createCall(104);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -5264,12 +4781,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[105]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.addNewTableEltFor");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "addNewTableEltFor"));
+        org.apache.axis.client.Call _call = createCall(105);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -5295,12 +4807,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[106]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.waitForBindingCreation");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "waitForBindingCreation"));
+        org.apache.axis.client.Call _call = createCall(106);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -5326,12 +4833,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[107]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.waitForBindingFinalization");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "waitForBindingFinalization"));
+        org.apache.axis.client.Call _call = createCall(107);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -5357,12 +4859,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[108]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.openedGraphReprs");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "openedGraphReprs"));
+        org.apache.axis.client.Call _call = createCall(108);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -5388,12 +4885,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[109]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.animateAll");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "animateAll"));
+        org.apache.axis.client.Call _call = createCall(109);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -5419,12 +4911,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[110]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.animateNone");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "animateNone"));
+        org.apache.axis.client.Call _call = createCall(110);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -5450,12 +4937,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[111]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.createGraphDialog");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "createGraphDialog"));
+        org.apache.axis.client.Call _call = createCall(111);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -5481,12 +4963,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[112]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.createFromPropertyDialogInArea");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "createFromPropertyDialogInArea"));
+        org.apache.axis.client.Call _call = createCall(112);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -5512,12 +4989,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[113]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.propertyDialog");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "propertyDialog"));
+        org.apache.axis.client.Call _call = createCall(113);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -5543,12 +5015,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[114]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.forGraphRun");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "forGraphRun"));
+        org.apache.axis.client.Call _call = createCall(114);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -5574,12 +5041,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[115]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.generatorNames");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "generatorNames"));
+        org.apache.axis.client.Call _call = createCall(115);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -5605,12 +5067,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[116]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.currentDir");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "currentDir"));
+        org.apache.axis.client.Call _call = createCall(116);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -5636,12 +5093,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[117]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.fileInPatch");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "fileInPatch"));
+        org.apache.axis.client.Call _call = createCall(117);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -5667,12 +5119,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[118]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.fileInPatches");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "fileInPatches"));
+        org.apache.axis.client.Call _call = createCall(118);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -5698,12 +5145,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[119]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.abandon");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "abandon"));
+        org.apache.axis.client.Call _call = createCall(119);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -5729,12 +5171,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[120]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.commit");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "commit"));
+        org.apache.axis.client.Call _call = createCall(120);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -5760,12 +5197,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[121]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.condenseDatabase");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "condenseDatabase"));
+        org.apache.axis.client.Call _call = createCall(121);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -5791,12 +5223,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[122]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.createProject");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "createProject"));
+        org.apache.axis.client.Call _call = createCall(122);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -5822,12 +5249,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[123]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.document");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "document"));
+        org.apache.axis.client.Call _call = createCall(123);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -5853,12 +5275,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[124]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.forAll");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "forAll"));
+        org.apache.axis.client.Call _call = createCall(124);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -5884,12 +5301,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[125]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.forName");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "forName"));
+        org.apache.axis.client.Call _call = createCall(125);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -5915,12 +5327,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[126]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.login");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "login"));
+        org.apache.axis.client.Call _call = createCall(126);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -5946,12 +5353,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[127]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.loginDB");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "loginDB"));
+        org.apache.axis.client.Call _call = createCall(127);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -5977,12 +5379,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[128]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.loginNewDB");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "loginNewDB"));
+        org.apache.axis.client.Call _call = createCall(128);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -6008,12 +5405,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[129]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.logoutAndExit");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "logoutAndExit"));
+        org.apache.axis.client.Call _call = createCall(129);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -6039,12 +5431,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[130]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.maintainDatabase");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "maintainDatabase"));
+        org.apache.axis.client.Call _call = createCall(130);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -6070,12 +5457,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[131]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.openAllProjects");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "openAllProjects"));
+        org.apache.axis.client.Call _call = createCall(131);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -6101,12 +5483,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[132]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.quit");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "quit"));
+        org.apache.axis.client.Call _call = createCall(132);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -6132,12 +5509,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[133]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.saveWSDL");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "saveWSDL"));
+        org.apache.axis.client.Call _call = createCall(133);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -6163,12 +5535,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[134]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.setProject");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "setProject"));
+        org.apache.axis.client.Call _call = createCall(134);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -6194,12 +5561,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[135]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.startAPI");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "startAPI"));
+        org.apache.axis.client.Call _call = createCall(135);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -6225,12 +5587,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[136]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.startAPIHostname");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "startAPIHostname"));
+        org.apache.axis.client.Call _call = createCall(136);
 
         setRequestHeaders(_call);
         setAttachments(_call);
@@ -6256,12 +5613,7 @@ public class MetaEditAPISoapBindingStub extends org.apache.axis.client.Stub impl
         if (super.cachedEndpoint == null) {
             throw new org.apache.axis.NoEndPointException();
         }
-        org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[137]);
-        _call.setUseSOAPAction(true);
-        _call.setSOAPActionURI("http://metacase.com/MetaEditAPI.stopAPI");
-        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-        _call.setOperationName(new javax.xml.namespace.QName("http://metacase.com/wsdl/", "stopAPI"));
+        org.apache.axis.client.Call _call = createCall(137);
 
         setRequestHeaders(_call);
         setAttachments(_call);
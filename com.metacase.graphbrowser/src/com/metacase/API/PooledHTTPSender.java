@@ -0,0 +1,431 @@
+/*
+ * Copyright (c) 2011 MetaCase Consulting
+ * Released under the MIT license. See the file license.txt for details.
+ */
+
+package com.metacase.API;
+
+import java.io.*;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.SocketException;
+import java.net.SocketTimeoutException;
+import java.net.URL;
+import java.util.*;
+import java.util.concurrent.Semaphore;
+
+import org.apache.axis.AxisFault;
+import org.apache.axis.Constants;
+import org.apache.axis.Message;
+import org.apache.axis.MessageContext;
+import org.apache.axis.SimpleTargetedChain;
+import org.apache.axis.configuration.SimpleProvider;
+import org.apache.axis.handlers.BasicHandler;
+import org.apache.axis.transport.http.HTTPConstants;
+import org.apache.axis.transport.http.HTTPTransport;
+
+/**
+ * Axis HTTP transport that keeps the connections to MetaEdit+ open between calls.
+ * Axis's default HTTPSender opens a new connection for every call; this sender uses
+ * persistent HTTP/1.1 connections, at most poolSize of them for each host and port.
+ * Connections that have been idle longer than the idle timeout are closed.
+ * <p>
+ * A reused connection may have been closed by the server while it was idle. A call
+ * is only sent again on a new connection if MetaEdit+ can not have run it: if writing
+ * the request failed, or if the operation only reads, as given to the constructor.
+ * Otherwise the call fails, as for example forGraphRun would run the generator twice.
+ * Before an operation that changes something is sent on a connection that has been
+ * idle for a while, the connection is checked, so that such calls rarely fail.
+ * <p>
+ * Use createConfiguration to get an engine configuration for MetaEditAPILocator.
+ */
+public class PooledHTTPSender extends BasicHandler {
+
+	private static final long serialVersionUID = 1L;
+	private static final String CRLF = "\r\n";
+	// A connection idle for longer is checked before a call that changes something is sent on it.
+	private static final long CHECK_AFTER_IDLE = 1000;
+
+	private final int poolSize;
+	private final long idleTimeout;
+	private final int requestTimeout;
+	private final Set<String> readOnly;
+	private final HashMap<String, Endpoint> endpoints = new HashMap<String, Endpoint>();
+
+	/**
+	 * Constructor.
+	 * @param poolSize maximum number of connections to one host and port.
+	 * @param idleTimeout milliseconds an unused connection is kept open.
+	 * @param requestTimeout milliseconds to wait for a response, or 0 to use the timeout of the Axis call.
+	 * @param readOnly names of the operations that can be sent again, as they do not change anything.
+	 */
+	public PooledHTTPSender(int poolSize, long idleTimeout, int requestTimeout, Set<String> readOnly) {
+		this.poolSize = Math.max(1, poolSize);
+		this.idleTimeout = idleTimeout;
+		this.requestTimeout = requestTimeout;
+		this.readOnly = readOnly;
+	}
+
+	/**
+	 * Creates an engine configuration that sends the http calls with this sender.
+	 * @return configuration for MetaEditAPILocator.
+	 */
+	public SimpleProvider createConfiguration() {
+		SimpleProvider config = new SimpleProvider();
+		config.deployTransport(HTTPTransport.DEFAULT_TRANSPORT_NAME, new SimpleTargetedChain(this));
+		return config;
+	}
+
+	/**
+	 * Closes all unused connections. Connections in use are closed when their call is done.
+	 */
+	public void close() {
+		synchronized (endpoints) {
+			for (Endpoint e : endpoints.values()) {
+				e.close();
+			}
+			endpoints.clear();
+		}
+	}
+
+	public void invoke(MessageContext msgContext) throws AxisFault {
+		try {
+			URL url = new URL(msgContext.getStrProp(MessageContext.TRANS_URL));
+			Message request = msgContext.getRequestMessage();
+			ByteArrayOutputStream body = new ByteArrayOutputStream();
+			request.writeTo(body);
+			byte[] header = requestHeader(url, msgContext, request, body.size());
+			int timeout = requestTimeout > 0 ? requestTimeout : Math.max(0, msgContext.getTimeout());
+			boolean resendable = msgContext.getOperation() != null && readOnly.contains(msgContext.getOperation().getName());
+
+			Response response = endpoint(url).send(header, body.toByteArray(), timeout, resendable);
+
+			msgContext.setProperty(HTTPConstants.MC_HTTP_STATUS_CODE, Integer.valueOf(response.status));
+			msgContext.setProperty(HTTPConstants.MC_HTTP_STATUS_MESSAGE, response.message);
+			String contentType = response.headers.get("content-type");
+			// Like HTTPSender: 2xx is a response, 5xx with a SOAP body is a fault message.
+			boolean isSoap = contentType != null && !contentType.startsWith("text/html");
+			if (!(response.status > 199 && response.status < 300) && !(isSoap && response.status > 499 && response.status < 600)) {
+				AxisFault fault = new AxisFault("HTTP", "(" + response.status + ")" + response.message, null, null);
+				fault.addFaultDetail(Constants.QNAME_FAULTDETAIL_HTTPERRORCODE, Integer.toString(response.status));
+				throw fault;
+			}
+			Message out = new Message(new ByteArrayInputStream(response.body), false,
+					contentType, response.headers.get("content-location"));
+			out.setMessageType(Message.RESPONSE);
+			msgContext.setResponseMessage(out);
+		} catch (AxisFault e) {
+			throw e;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw AxisFault.makeFault(e);
+		} catch (Exception e) {
+			throw AxisFault.makeFault(e);
+		}
+	}
+
+	private byte[] requestHeader(URL url, MessageContext msgContext, Message request, int contentLength) throws AxisFault {
+		String action = msgContext.useSOAPAction() ? msgContext.getSOAPActionURI() : null;
+		String path = url.getFile().length() == 0 ? "/" : url.getFile();
+		StringBuilder sb = new StringBuilder();
+		sb.append("POST ").append(path).append(" HTTP/1.1").append(CRLF);
+		sb.append("Host: ").append(url.getHost()).append(':').append(port(url)).append(CRLF);
+		sb.append("Content-Type: ").append(request.getContentType(msgContext.getSOAPConstants())).append(CRLF);
+		sb.append("Accept: application/soap+xml, application/dime, multipart/related, text/*").append(CRLF);
+		sb.append("User-Agent: Axis/1.4").append(CRLF);
+		sb.append("Cache-Control: no-cache").append(CRLF);
+		sb.append("Pragma: no-cache").append(CRLF);
+		sb.append("SOAPAction: \"").append(action == null ? "" : action).append('"').append(CRLF);
+		sb.append("Content-Length: ").append(contentLength).append(CRLF);
+		sb.append("Connection: keep-alive").append(CRLF);
+		sb.append(CRLF);
+		try {
+			return sb.toString().getBytes("ISO-8859-1");
+		} catch (UnsupportedEncodingException e) {
+			throw AxisFault.makeFault(e);
+		}
+	}
+
+	private Endpoint endpoint(URL url) {
+		String key = url.getHost() + ":" + port(url);
+		synchronized (endpoints) {
+			Endpoint e = endpoints.get(key);
+			if (e == null) {
+				e = new Endpoint(url.getHost(), port(url));
+				endpoints.put(key, e);
+			}
+			return e;
+		}
+	}
+
+	private static int port(URL url) {
+		return url.getPort() == -1 ? 80 : url.getPort();
+	}
+
+	/**
+	 * Connections to one host and port.
+	 */
+	private class Endpoint {
+		private final String host;
+		private final int port;
+		private final Semaphore permits = new Semaphore(poolSize, true);
+		private final ArrayDeque<Connection> idle = new ArrayDeque<Connection>();
+
+		Endpoint(String host, int port) {
+			this.host = host;
+			this.port = port;
+		}
+
+		/**
+		 * Sends the request and reads the response. A reused connection may have been
+		 * closed by the server while it was idle; then the request is sent again on a
+		 * new connection if the server did not get it, or if it is resendable.
+		 * @param resendable true if the request can be sent again even if the server may have run it.
+		 */
+		Response send(byte[] header, byte[] body, int timeout, boolean resendable) throws IOException, InterruptedException {
+			permits.acquire();
+			try {
+				Connection c = takeIdle();
+				if (c != null && !resendable && System.currentTimeMillis() - c.lastUsed > CHECK_AFTER_IDLE
+						&& c.isClosedByServer()) {
+					c.close();
+					c = null;
+				}
+				if (c != null) {
+					try {
+						return c.exchange(header, body, timeout);
+					} catch (StaleConnectionException e) {
+						// Closed by the server: try again below, unless it may have run the request.
+						if (e.requestSent && !resendable) {
+							throw new EOFException("Connection closed by the server before the response");
+						}
+					}
+				}
+				return open(timeout).exchange(header, body, timeout);
+			} finally {
+				permits.release();
+			}
+		}
+
+		private Connection open(int timeout) throws IOException {
+			Socket socket = new Socket();
+			socket.setTcpNoDelay(true);
+			socket.setKeepAlive(true);
+			socket.connect(new InetSocketAddress(host, port), timeout);
+			return new Connection(this, socket);
+		}
+
+		private synchronized Connection takeIdle() {
+			long now = System.currentTimeMillis();
+			while (!idle.isEmpty()) {
+				Connection c = idle.pollLast();
+				if (now - c.lastUsed <= idleTimeout) return c;
+				c.close();
+			}
+			return null;
+		}
+
+		synchronized void release(Connection c) {
+			c.lastUsed = System.currentTimeMillis();
+			idle.addLast(c);
+		}
+
+		synchronized void close() {
+			for (Connection c : idle) {
+				c.close();
+			}
+			idle.clear();
+		}
+	}
+
+	/**
+	 * One open socket.
+	 */
+	private static class Connection {
+		private final Endpoint endpoint;
+		private final Socket socket;
+		private final InputStream in;
+		private final OutputStream out;
+		private boolean used;
+		long lastUsed;
+
+		Connection(Endpoint endpoint, Socket socket) throws IOException {
+			this.endpoint = endpoint;
+			this.socket = socket;
+			this.in = new BufferedInputStream(socket.getInputStream());
+			this.out = new BufferedOutputStream(socket.getOutputStream());
+		}
+
+		Response exchange(byte[] header, byte[] body, int timeout) throws IOException {
+			boolean reused = used;
+			used = true;
+			Response response;
+			try {
+				socket.setSoTimeout(timeout);
+				try {
+					out.write(header);
+					out.write(body);
+					out.flush();
+				} catch (SocketException e) {
+					if (reused) throw new StaleConnectionException(false);
+					throw e;
+				}
+				response = Response.read(in, reused);
+			} catch (IOException e) {
+				close();
+				throw e;
+			}
+			if (response.keepAlive) {
+				endpoint.release(this);
+			} else {
+				close();
+			}
+			return response;
+		}
+
+		/**
+		 * Checks, waiting for a millisecond at most, whether the server has closed the connection.
+		 * @return true if the connection can not be used.
+		 */
+		boolean isClosedByServer() {
+			try {
+				socket.setSoTimeout(1);
+				// Nothing comes before a request, so both data and the end of the stream mean it is closed.
+				in.read();
+				return true;
+			} catch (SocketTimeoutException e) {
+				return false;
+			} catch (IOException e) {
+				return true;
+			}
+		}
+
+		void close() {
+			try {
+				socket.close();
+			} catch (IOException e) { }
+		}
+	}
+
+	/**
+	 * HTTP response read fully into memory, so that the connection can be used again.
+	 */
+	private static class Response {
+		int status;
+		String message = "";
+		HashMap<String, String> headers = new HashMap<String, String>();
+		byte[] body;
+		boolean keepAlive;
+
+		static Response read(InputStream in, boolean reused) throws IOException {
+			Response r = new Response();
+			String statusLine;
+			try {
+				statusLine = readLine(in);
+			} catch (SocketException e) {
+				if (reused) throw new StaleConnectionException(true);
+				throw e;
+			}
+			if (statusLine == null) {
+				if (reused) throw new StaleConnectionException(true);
+				throw new EOFException("No response from server");
+			}
+			String[] parts = statusLine.split(" ", 3);
+			if (parts.length < 2 || !parts[0].startsWith("HTTP/")) {
+				throw new IOException("Bad HTTP status line: " + statusLine);
+			}
+			r.status = Integer.parseInt(parts[1]);
+			if (parts.length > 2) r.message = parts[2];
+			String line;
+			while ((line = readLine(in)) != null && line.length() > 0) {
+				int colon = line.indexOf(':');
+				if (colon > 0) {
+					r.headers.put(line.substring(0, colon).trim().toLowerCase(Locale.ENGLISH), line.substring(colon + 1).trim());
+				}
+			}
+			String connection = r.headers.get("connection");
+			boolean http11 = parts[0].equals("HTTP/1.1");
+			r.keepAlive = http11 ? !"close".equalsIgnoreCase(connection) : "keep-alive".equalsIgnoreCase(connection);
+			String length = r.headers.get("content-length");
+			if ("chunked".equalsIgnoreCase(r.headers.get("transfer-encoding"))) {
+				r.body = readChunked(in);
+			} else if (length != null) {
+				r.body = readFully(in, Integer.parseInt(length));
+			} else {
+				// The body ends when the server closes the connection.
+				r.body = readToEnd(in);
+				r.keepAlive = false;
+			}
+			return r;
+		}
+
+		private static byte[] readChunked(InputStream in) throws IOException {
+			ByteArrayOutputStream body = new ByteArrayOutputStream();
+			while (true) {
+				String line = readLine(in);
+				if (line == null) throw new EOFException("Truncated chunked response");
+				int semicolon = line.indexOf(';');
+				int size = Integer.parseInt((semicolon < 0 ? line : line.substring(0, semicolon)).trim(), 16);
+				if (size == 0) break;
+				body.write(readFully(in, size));
+				readLine(in);
+			}
+			// Skip trailers.
+			String line;
+			while ((line = readLine(in)) != null && line.length() > 0) { }
+			return body.toByteArray();
+		}
+
+		private static byte[] readFully(InputStream in, int length) throws IOException {
+			byte[] bytes = new byte[length];
+			int read = 0;
+			while (read < length) {
+				int n = in.read(bytes, read, length - read);
+				if (n < 0) throw new EOFException("Truncated response");
+				read += n;
+			}
+			return bytes;
+		}
+
+		private static byte[] readToEnd(InputStream in) throws IOException {
+			ByteArrayOutputStream body = new ByteArrayOutputStream();
+			byte[] buffer = new byte[8192];
+			int n;
+			while ((n = in.read(buffer)) > 0) {
+				body.write(buffer, 0, n);
+			}
+			return body.toByteArray();
+		}
+
+		/**
+		 * Reads a header line without the line end.
+		 * @return the line, or null at the end of the stream.
+		 */
+		private static String readLine(InputStream in) throws IOException {
+			StringBuilder sb = new StringBuilder();
+			int c;
+			while ((c = in.read()) != -1) {
+				if (c == '\n') {
+					int end = sb.length();
+					if (end > 0 && sb.charAt(end - 1) == '\r') sb.setLength(end - 1);
+					return sb.toString();
+				}
+				sb.append((char) c);
+			}
+			return sb.length() == 0 ? null : sb.toString();
+		}
+	}
+
+	/**
+	 * Thrown when a reused connection was closed by the server before the response.
+	 */
+	private static class StaleConnectionException extends IOException {
+		private static final long serialVersionUID = 1L;
+		// True if the whole request was written, so the server may have run it.
+		final boolean requestSent;
+
+		StaleConnectionException(boolean requestSent) {
+			this.requestSent = requestSent;
+		}
+	}
+}
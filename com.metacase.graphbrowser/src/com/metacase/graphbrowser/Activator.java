@@ -42,6 +42,7 @@ public class Activator extends AbstractUIPlugin {
 	public void stop(BundleContext context) throws Exception {
 		plugin = null;
 		Launcher.stopApi();
+		ProgramLauncher.stopWarmJvm();
 		super.stop(context);
 	}
 
@@ -0,0 +1,308 @@
+/*
+ * Copyright (c) 2011 MetaCase Consulting
+ * Released under the MIT license. See the file license.txt for details.
+ */
+
+package com.metacase.graphbrowser;
+
+import java.io.*;
+import java.lang.reflect.Method;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.apache.axis.AxisFault;
+import org.apache.axis.Message;
+import org.apache.axis.MessageContext;
+import org.apache.axis.handlers.BasicHandler;
+
+import com.metacase.API.MetaEditAPIPortType;
+
+/**
+ * Statistics of the MetaEdit+ API calls, for finding out where the time goes when
+ * the graph browser is slow. Launcher wraps its port with instrument, so every call
+ * made through Launcher.getPort is recorded by operation: the number of calls and
+ * failed calls, and a histogram of the call times. With the PAYLOADS level the sizes
+ * of the SOAP requests and responses are recorded too, by the PayloadHandler in the
+ * Axis engine.
+ * <p>
+ * The TIMES level costs two clock readings and a few atomic additions per call, so
+ * it is on by default. The PAYLOADS level makes Axis write each request twice to
+ * measure it, so it is meant for finding slow operations, not for everyday use.
+ * The level is the apiStatistics setting in the .mer file.
+ */
+public class ApiStatistics {
+
+	public static final int OFF = 0;
+	public static final int TIMES = 1;
+	public static final int PAYLOADS = 2;
+
+	// Bucket i counts the calls taking from 2^(i-1) to 2^i - 1 microseconds;
+	// bucket 0 counts the calls taking less than a microsecond.
+	private static final int BUCKETS = 32;
+
+	private static volatile int level = TIMES;
+	private static final ConcurrentHashMap<String, Operation> operations = new ConcurrentHashMap<String, Operation>();
+	private static volatile long startTime = System.currentTimeMillis();
+
+	/**
+	 * Recorded values of one API operation.
+	 */
+	public static class Operation {
+		private final String name;
+		private final AtomicLong calls = new AtomicLong();
+		private final AtomicLong errors = new AtomicLong();
+		private final AtomicLong shared = new AtomicLong();
+		private final AtomicLong totalNanos = new AtomicLong();
+		private final AtomicLong maxNanos = new AtomicLong();
+		private final AtomicLongArray histogram = new AtomicLongArray(BUCKETS);
+		private final AtomicLong requestBytes = new AtomicLong();
+		private final AtomicLong responseBytes = new AtomicLong();
+		private final AtomicLong maxResponseBytes = new AtomicLong();
+
+		Operation(String name) {
+			this.name = name;
+		}
+
+		void recordCall(long nanos, boolean failed) {
+			calls.incrementAndGet();
+			if (failed) errors.incrementAndGet();
+			totalNanos.addAndGet(nanos);
+			histogram.incrementAndGet(bucket(nanos / 1000));
+			long max;
+			while (nanos > (max = maxNanos.get()) && !maxNanos.compareAndSet(max, nanos));
+		}
+
+		void recordPayload(long request, long response) {
+			requestBytes.addAndGet(request);
+			responseBytes.addAndGet(response);
+			long max;
+			while (response > (max = maxResponseBytes.get()) && !maxResponseBytes.compareAndSet(max, response));
+		}
+
+		public String getName() {
+			return name;
+		}
+		public long getCalls() {
+			return calls.get();
+		}
+		public long getErrors() {
+			return errors.get();
+		}
+		/**
+		 * @return number of calls that got the result of an identical call in progress
+		 * instead of calling MetaEdit+; see SingleFlight.
+		 */
+		public long getShared() {
+			return shared.get();
+		}
+		public long getTotalNanos() {
+			return totalNanos.get();
+		}
+		public long getMaxNanos() {
+			return maxNanos.get();
+		}
+		public long getRequestBytes() {
+			return requestBytes.get();
+		}
+		public long getResponseBytes() {
+			return responseBytes.get();
+		}
+		public long getMaxResponseBytes() {
+			return maxResponseBytes.get();
+		}
+
+		/**
+		 * Gets the number of calls in each time bucket.
+		 * @return counts of the buckets; bucket i has the calls taking less than 2^i microseconds.
+		 */
+		public long[] getHistogram() {
+			long[] counts = new long[BUCKETS];
+			for (int i = 0; i < BUCKETS; i++) {
+				counts[i] = histogram.get(i);
+			}
+			return counts;
+		}
+
+		/**
+		 * Estimates a percentile of the call times from the histogram.
+		 * @param percent the percentile, from 0 to 100.
+		 * @return upper limit of the time in microseconds, or 0 if there are no calls.
+		 */
+		public long getPercentileMicros(double percent) {
+			long[] counts = getHistogram();
+			long total = 0;
+			for (long c : counts) total += c;
+			if (total == 0) return 0;
+			long rank = (long) Math.ceil(total * percent / 100);
+			long seen = 0;
+			for (int i = 0; i < BUCKETS; i++) {
+				seen += counts[i];
+				if (seen >= Math.max(1, rank)) return (1L << i) - 1;
+			}
+			return Long.MAX_VALUE;
+		}
+	}
+
+	private static int bucket(long micros) {
+		return Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(micros));
+	}
+
+	/**
+	 * Sets what is recorded.
+	 * @param newLevel OFF, TIMES or PAYLOADS.
+	 */
+	public static void setLevel(int newLevel) {
+		level = Math.max(OFF, Math.min(PAYLOADS, newLevel));
+	}
+
+	/**
+	 * @return OFF, TIMES or PAYLOADS.
+	 */
+	public static int getLevel() {
+		return level;
+	}
+
+	/**
+	 * Wraps a port so that its calls are recorded.
+	 * @param target the port making the calls.
+	 * @return the recording port.
+	 */
+	public static MetaEditAPIPortType instrument(MetaEditAPIPortType target) {
+		if (target == null) return null;
+		return new PortDecorator(target) {
+			protected Object call(Method method, Object[] args) throws Throwable {
+				if (level == OFF) return invokeTarget(method, args);
+				long start = System.nanoTime();
+				boolean failed = true;
+				try {
+					Object result = invokeTarget(method, args);
+					failed = false;
+					return result;
+				} finally {
+					operation(method.getName()).recordCall(System.nanoTime() - start, failed);
+				}
+			}
+		}.port();
+	}
+
+	private static Operation operation(String name) {
+		Operation o = operations.get(name);
+		if (o == null) {
+			Operation created = new Operation(name);
+			o = operations.putIfAbsent(name, created);
+			if (o == null) o = created;
+		}
+		return o;
+	}
+
+	/**
+	 * Records a call that was not sent, as it got the result of an identical call
+	 * in progress.
+	 * @param name name of the operation.
+	 */
+	public static void recordShared(String name) {
+		if (level != OFF) operation(name).shared.incrementAndGet();
+	}
+
+	/**
+	 * Axis handler that records the sizes of the SOAP messages, when the level is
+	 * PAYLOADS. Set as the global response handler of the client engine, so that it
+	 * sees each call when its response has arrived.
+	 */
+	public static class PayloadHandler extends BasicHandler {
+		private static final long serialVersionUID = 1L;
+
+		public void invoke(MessageContext msgContext) throws AxisFault {
+			if (level != PAYLOADS || msgContext.getOperation() == null) return;
+			operation(msgContext.getOperation().getName()).recordPayload(
+					length(msgContext.getRequestMessage()), length(msgContext.getResponseMessage()));
+		}
+
+		private static long length(Message message) throws AxisFault {
+			return (message == null) ? 0 : message.getContentLength();
+		}
+	}
+
+	/**
+	 * Gets the recorded operations.
+	 * @return the operations, the one that has taken the most time first.
+	 */
+	public static List<Operation> getOperations() {
+		ArrayList<Operation> list = new ArrayList<Operation>(operations.values());
+		Collections.sort(list, new Comparator<Operation>() {
+			public int compare(Operation o1, Operation o2) {
+				long t1 = o1.getTotalNanos(), t2 = o2.getTotalNanos();
+				return (t1 == t2) ? o1.getName().compareTo(o2.getName()) : (t1 > t2 ? -1 : 1);
+			}
+		});
+		return list;
+	}
+
+	/**
+	 * Forgets the recorded values.
+	 */
+	public static void reset() {
+		operations.clear();
+		startTime = System.currentTimeMillis();
+	}
+
+	/**
+	 * Gets the recorded values as text: a table with a line for each operation, and
+	 * the time histogram of each operation.
+	 * @return the report.
+	 */
+	public static String report() {
+		List<Operation> list = getOperations();
+		StringBuilder sb = new StringBuilder();
+		String nl = System.getProperty("line.separator");
+		sb.append("MetaEdit+ API calls since ").append(new Date(startTime)).append(nl);
+		sb.append(String.format("%-24s %9s %7s %9s %11s %9s %9s %9s %9s %9s %12s %12s%n", "Operation", "Calls",
+				"Errors", "Shared", "Total ms", "Mean ms", "p50 ms", "p90 ms", "p99 ms", "Max ms", "Request B", "Response B"));
+		long calls = 0, shared = 0, nanos = 0;
+		for (Operation o : list) {
+			calls += o.getCalls();
+			shared += o.getShared();
+			nanos += o.getTotalNanos();
+			sb.append(String.format("%-24s %9d %7d %9d %11.1f %9.3f %9.3f %9.3f %9.3f %9.3f %12d %12d%n", o.getName(),
+					o.getCalls(), o.getErrors(), o.getShared(), o.getTotalNanos() / 1e6,
+					o.getCalls() == 0 ? 0.0 : o.getTotalNanos() / 1e6 / o.getCalls(),
+					o.getPercentileMicros(50) / 1e3, o.getPercentileMicros(90) / 1e3, o.getPercentileMicros(99) / 1e3,
+					o.getMaxNanos() / 1e6, o.getRequestBytes(), o.getResponseBytes()));
+		}
+		sb.append(String.format("%-24s %9d %7s %9d %11.1f%n", "Total", calls, "", shared, nanos / 1e6));
+		if (level != PAYLOADS) sb.append("Message sizes are recorded only with apiStatistics=2.").append(nl);
+		sb.append(nl).append("Call times, number of calls taking less than each limit:").append(nl);
+		for (Operation o : list) {
+			sb.append(o.getName()).append(':');
+			long[] counts = o.getHistogram();
+			for (int i = 0; i < BUCKETS; i++) {
+				if (counts[i] > 0) sb.append(' ').append(limitText(i)).append('=').append(counts[i]);
+			}
+			sb.append(nl);
+		}
+		return sb.toString();
+	}
+
+	private static String limitText(int bucket) {
+		long micros = 1L << bucket;
+		if (micros < 1000) return "<" + micros + "us";
+		if (micros < 1000000) return String.format("<%.1fms", micros / 1e3);
+		return String.format("<%.1fs", micros / 1e6);
+	}
+
+	/**
+	 * Saves the report to a file.
+	 * @param file the file.
+	 * @throws IOException if the file can not be written.
+	 */
+	public static void save(File file) throws IOException {
+		Writer out = new OutputStreamWriter(new FileOutputStream(file), "UTF-8");
+		try {
+			out.write(report());
+		} finally {
+			out.close();
+		}
+	}
+}
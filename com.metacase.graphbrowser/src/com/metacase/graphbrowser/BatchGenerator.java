@@ -0,0 +1,304 @@
+/*
+ * Copyright (c) 2011 MetaCase Consulting
+ * Released under the MIT license. See the file license.txt for details.
+ */
+
+package com.metacase.graphbrowser;
+
+import java.io.*;
+import java.rmi.RemoteException;
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+
+import com.metacase.API.MetaEditAPIPortType;
+import com.metacase.objects.Graph;
+
+/**
+ * Runs a generator for many graphs, spread over one or more MetaEdit+ sessions.
+ * Each MetaEdit+ API endpoint in the generatorEndpoints setting gets a worker
+ * thread, which takes the next graph from a shared queue whenever its previous
+ * run has finished; MetaEdit+ runs one generator at a time, so the throughput
+ * grows with the number of sessions. The sessions should use the same repository,
+ * as the graphs are identified by their object IDs.
+ * <p>
+ * Only the generator is run, the generated projects are not imported. The results,
+ * times and failures of all runs are shown in a summary when the batch is done and
+ * written to a report file. An endpoint that can not be reached is left out, and
+ * its graph is run by the others.
+ */
+public class BatchGenerator extends Job {
+
+	public static final String REPORT_FILE_NAME = "generator-batch.txt";
+
+	/**
+	 * The outcome of running the generator for one graph.
+	 */
+	public static class Result {
+		private final Graph graph;
+		private final String endpoint;
+		private final long nanos;
+		private final String error;
+
+		Result(Graph graph, String endpoint, long nanos, String error) {
+			this.graph = graph;
+			this.endpoint = endpoint;
+			this.nanos = nanos;
+			this.error = error;
+		}
+
+		public Graph getGraph() {
+			return graph;
+		}
+		public String getEndpoint() {
+			return endpoint;
+		}
+		public long getNanos() {
+			return nanos;
+		}
+		/**
+		 * @return the error, or null if the generator was run.
+		 */
+		public String getError() {
+			return error;
+		}
+	}
+
+	private final ArrayList<Graph> graphs;
+	private final String generator;
+	private final List<Result> results = Collections.synchronizedList(new ArrayList<Result>());
+	private final Map<String, String> endpointErrors = Collections.synchronizedMap(new LinkedHashMap<String, String>());
+	private volatile boolean stopped;
+	// The endpoints of the run, as the settings may change before the report is made.
+	private volatile String[] endpoints = new String[0];
+	private long elapsedNanos;
+
+	/**
+	 * Constructor.
+	 * @param graphs the graphs, each run once in the given order.
+	 * @param generator name of the generator.
+	 */
+	public BatchGenerator(Collection<Graph> graphs, String generator) {
+		super("Running generator " + generator + " for " + graphs.size() + " graphs");
+		this.graphs = new ArrayList<Graph>(new LinkedHashSet<Graph>(graphs));
+		this.generator = generator;
+	}
+
+	public boolean belongsTo(Object family) {
+		return family == GeneratorQueue.FAMILY;
+	}
+
+	/**
+	 * Gets the MetaEdit+ API endpoints for batch runs from the settings.
+	 * @return the endpoints as hostname:port; the current connection if none are set.
+	 */
+	public static String[] getEndpoints() {
+		Settings s = Settings.getSettings();
+		LinkedHashSet<String> endpoints = new LinkedHashSet<String>();
+		for (String e : s.getGeneratorEndpoints().split("[;,\\s]+")) {
+			if (e.length() > 0) endpoints.add(e.indexOf(':') < 0 ? e + ":" + s.getPort() : e);
+		}
+		if (endpoints.isEmpty()) endpoints.add(s.getHostname() + ":" + s.getPort());
+		return endpoints.toArray(new String[endpoints.size()]);
+	}
+
+	/**
+	 * @return results of the runs finished so far.
+	 */
+	public List<Result> getResults() {
+		synchronized (results) {
+			return new ArrayList<Result>(results);
+		}
+	}
+
+	protected IStatus run(IProgressMonitor monitor) {
+		String[] endpoints = this.endpoints = getEndpoints();
+		final ConcurrentLinkedQueue<Graph> queue = new ConcurrentLinkedQueue<Graph>(graphs);
+		final AtomicInteger finished = new AtomicInteger();
+		final AtomicInteger working = new AtomicInteger(endpoints.length);
+		monitor.beginTask(getName(), graphs.size());
+		long start = System.nanoTime();
+		ExecutorService executor = Executors.newFixedThreadPool(endpoints.length, new ThreadFactory() {
+			public Thread newThread(Runnable r) {
+				Thread t = new Thread(r, "MetaEdit+ batch generator");
+				t.setDaemon(true);
+				return t;
+			}
+		});
+		try {
+			for (final String endpoint : endpoints) {
+				executor.execute(new Runnable() {
+					public void run() {
+						try {
+							work(endpoint, queue, finished);
+						} finally {
+							working.decrementAndGet();
+						}
+					}
+				});
+			}
+			executor.shutdown();
+			int reported = 0;
+			while (!executor.awaitTermination(100, TimeUnit.MILLISECONDS)) {
+				if (monitor.isCanceled()) stopped = true;
+				int done = finished.get();
+				monitor.worked(done - reported);
+				reported = done;
+				monitor.subTask(done + " of " + graphs.size() + " graphs, " + working.get() + " MetaEdit+ sessions");
+			}
+		} catch (InterruptedException e) {
+			stopped = true;
+			Thread.currentThread().interrupt();
+		} finally {
+			elapsedNanos = System.nanoTime() - start;
+			monitor.done();
+		}
+		String report = report();
+		File file = saveReport(report);
+		DialogProvider.showMessageDialog(summary() + (file == null ? "" : "\nThe full report is in " + file + "."),
+				"Generator " + generator);
+		return stopped ? Status.CANCEL_STATUS : Status.OK_STATUS;
+	}
+
+	/**
+	 * Runs the generator for graphs from the queue through one endpoint until the
+	 * queue is empty, the batch is cancelled or the endpoint can not be reached.
+	 */
+	private void work(String endpoint, ConcurrentLinkedQueue<Graph> queue, AtomicInteger finished) {
+		MetaEditAPIPortType port = port(endpoint);
+		if (port == null) return;
+		Graph graph;
+		while (!stopped && (graph = queue.poll()) != null) {
+			long start = System.nanoTime();
+			String error = null;
+			try {
+				graph.generate(port, generator);
+			} catch (RemoteException e) {
+				if (isConnectionFailure(e)) {
+					// Leave the graph to the other sessions.
+					queue.add(graph);
+					endpointErrors.put(endpoint, e.toString());
+					return;
+				}
+				error = e.toString();
+			} catch (RuntimeException e) {
+				error = e.toString();
+			}
+			results.add(new Result(graph, endpoint, System.nanoTime() - start, error));
+			finished.incrementAndGet();
+		}
+	}
+
+	private MetaEditAPIPortType port(String endpoint) {
+		Settings s = Settings.getSettings();
+		if (endpoint.equals(s.getHostname() + ":" + s.getPort())) return Launcher.getPort();
+		int colon = endpoint.lastIndexOf(':');
+		try {
+			MetaEditAPIPortType port = Launcher.createPort(endpoint.substring(0, colon),
+					Integer.parseInt(endpoint.substring(colon + 1)));
+			if (port == null) endpointErrors.put(endpoint, "Could not create the API port");
+			return port;
+		} catch (NumberFormatException e) {
+			endpointErrors.put(endpoint, "Not a hostname:port address");
+			return null;
+		}
+	}
+
+	/**
+	 * Tells whether a call failed because MetaEdit+ could not be reached, rather
+	 * than because the generator failed.
+	 */
+	private static boolean isConnectionFailure(RemoteException e) {
+		for (Throwable t = e.getCause(); t != null; t = t.getCause()) {
+			if (t instanceof IOException) return true;
+		}
+		return false;
+	}
+
+	/**
+	 * @return the number of graphs, failures and the time of the batch, and the first failures.
+	 */
+	private String summary() {
+		List<Result> list = getResults();
+		int failed = 0;
+		StringBuilder failures = new StringBuilder();
+		for (Result r : list) {
+			if (r.getError() == null) continue;
+			if (++failed <= 10) failures.append("\n").append(r.getGraph().getName()).append(": ").append(r.getError());
+		}
+		StringBuilder sb = new StringBuilder();
+		sb.append(String.format("Generator %s was run for %d of %d graphs in %.1f s, %d failed.", generator,
+				list.size(), graphs.size(), elapsedNanos / 1e9, failed));
+		if (stopped) sb.append("\nThe batch was cancelled.");
+		for (Map.Entry<String, String> e : endpointErrors.entrySet()) {
+			sb.append("\nMetaEdit+ at ").append(e.getKey()).append(" was not used: ").append(e.getValue());
+		}
+		sb.append(failures);
+		if (failed > 10) sb.append("\n...");
+		return sb.toString();
+	}
+
+	/**
+	 * Gets the results as text: the summary, the runs of each endpoint and the run of each graph.
+	 * @return the report.
+	 */
+	public String report() {
+		List<Result> list = getResults();
+		String nl = System.getProperty("line.separator");
+		StringBuilder sb = new StringBuilder();
+		sb.append(new Date()).append(nl).append(summary().replace("\n", nl)).append(nl).append(nl);
+		LinkedHashMap<String, long[]> byEndpoint = new LinkedHashMap<String, long[]>();
+		for (String e : endpoints) byEndpoint.put(e, new long[4]);
+		for (Result r : list) {
+			long[] v = byEndpoint.get(r.getEndpoint());
+			if (v == null) byEndpoint.put(r.getEndpoint(), v = new long[4]);
+			v[0]++;
+			if (r.getError() != null) v[1]++;
+			v[2] += r.getNanos();
+			v[3] = Math.max(v[3], r.getNanos());
+		}
+		sb.append(String.format("%-30s %7s %7s %10s %10s %10s%n", "Endpoint", "Graphs", "Failed", "Total s", "Mean ms", "Max ms"));
+		for (Map.Entry<String, long[]> e : byEndpoint.entrySet()) {
+			long[] v = e.getValue();
+			sb.append(String.format("%-30s %7d %7d %10.1f %10.1f %10.1f%n", e.getKey(), v[0], v[1], v[2] / 1e9,
+					v[0] == 0 ? 0.0 : v[2] / 1e6 / v[0], v[3] / 1e6));
+		}
+		sb.append(nl).append(String.format("%-40s %-20s %-30s %10s  %s%n", "Graph", "Type", "Endpoint", "Time ms", "Error"));
+		for (Result r : list) {
+			sb.append(String.format("%-40s %-20s %-30s %10.1f  %s%n", r.getGraph().getName(), r.getGraph().getTypeName(),
+					r.getEndpoint(), r.getNanos() / 1e6, r.getError() == null ? "" : r.getError()));
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * Writes the report to the plugin state location.
+	 * @return the report file, or null if it could not be written.
+	 */
+	private static File saveReport(String report) {
+		Activator plugin = Activator.getDefault();
+		if (plugin == null) return null;
+		File file = plugin.getStateLocation().append(REPORT_FILE_NAME).toFile();
+		try {
+			Writer out = new OutputStreamWriter(new FileOutputStream(file), "UTF-8");
+			try {
+				out.write(report);
+			} finally {
+				out.close();
+			}
+			return file;
+		} catch (IOException e) {
+			e.printStackTrace();
+			return null;
+		}
+	}
+}
@@ -0,0 +1,232 @@
+/*
+ * Copyright (c) 2011 MetaCase Consulting
+ * Released under the MIT license. See the file license.txt for details.
+ */
+
+package com.metacase.graphbrowser;
+
+import java.io.*;
+import java.util.*;
+import java.util.zip.CRC32;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+
+/**
+ * Size, modification time and CRC-32 of the generated files of a project, saved to the
+ * workspace metadata area. Generators write all their files on every run, also those
+ * whose contents do not change, and a refreshed file is compiled again even if it is the
+ * same. With the index, a rewritten file with the same size and CRC-32 as when it was
+ * last refreshed gets its old modification time back and is left out of the refresh, so
+ * that the build only sees the real changes.
+ * <p>
+ * A file is only taken as unchanged if the workspace still has the indexed modification
+ * time for it, so a file edited in Eclipse after the last run is always refreshed.
+ */
+public class GeneratedFileIndex {
+
+	private static final int MAGIC = 0x4D454746;
+	private static final int VERSION = 1;
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	/**
+	 * Indexed values of one file.
+	 */
+	private static class Entry {
+		final long size;
+		final long modified;
+		final long crc;
+
+		Entry(long size, long modified, long crc) {
+			this.size = size;
+			this.modified = modified;
+			this.crc = crc;
+		}
+	}
+
+	private final File file;
+	private final HashMap<String, Entry> entries = new HashMap<String, Entry>();
+	// CRC-32 values computed by removeUnchanged, by path, so that update does not read the files again.
+	private final HashMap<String, Long> computed = new HashMap<String, Long>();
+
+	private GeneratedFileIndex(File file) {
+		this.file = file;
+	}
+
+	/**
+	 * Gets the index file of a project in the plugin state location.
+	 * @param project the project.
+	 * @return the index file, or null if the plugin is not running.
+	 */
+	public static File getFile(IProject project) {
+		Activator plugin = Activator.getDefault();
+		if (plugin == null) return null;
+		return plugin.getStateLocation().append("generated-" + project.getName() + ".idx").toFile();
+	}
+
+	/**
+	 * Loads the index of a project. A missing or unreadable index gives an empty one,
+	 * which is filled as the generated files are refreshed.
+	 * @param project the project.
+	 * @return the index.
+	 */
+	public static GeneratedFileIndex load(IProject project) {
+		GeneratedFileIndex index = new GeneratedFileIndex(getFile(project));
+		if (index.file == null || !index.file.isFile()) return index;
+		try {
+			DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(index.file)));
+			try {
+				if (in.readInt() != MAGIC || in.readInt() != VERSION) return index;
+				int count = in.readInt();
+				for (int i = 0; i < count; i++) {
+					String path = in.readUTF();
+					index.entries.put(path, new Entry(in.readLong(), in.readLong(), in.readLong()));
+				}
+			} finally {
+				in.close();
+			}
+		} catch (IOException e) {
+			// Corrupt index: start again.
+			index.entries.clear();
+		}
+		return index;
+	}
+
+	/**
+	 * Saves the index. Errors are only printed, as the index is just a cache.
+	 */
+	public void save() {
+		if (file == null) return;
+		File temp = new File(file.getPath() + ".tmp");
+		try {
+			DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp)));
+			try {
+				out.writeInt(MAGIC);
+				out.writeInt(VERSION);
+				out.writeInt(entries.size());
+				for (Map.Entry<String, Entry> e : entries.entrySet()) {
+					out.writeUTF(e.getKey());
+					out.writeLong(e.getValue().size);
+					out.writeLong(e.getValue().modified);
+					out.writeLong(e.getValue().crc);
+				}
+			} finally {
+				out.close();
+			}
+			if (file.exists() && !file.delete()) {
+				throw new IOException("Could not replace " + file);
+			}
+			if (!temp.renameTo(file)) {
+				throw new IOException("Could not rename " + temp);
+			}
+		} catch (IOException e) {
+			e.printStackTrace();
+			temp.delete();
+		}
+	}
+
+	/**
+	 * Leaves out the files whose contents have not changed since they were indexed, and
+	 * sets their modification times back to the indexed ones.
+	 * @param targets the resources to be refreshed.
+	 * @return the resources that still need to be refreshed.
+	 */
+	public List<IResource> removeUnchanged(Collection<IResource> targets) {
+		ArrayList<IResource> changed = new ArrayList<IResource>(targets.size());
+		for (IResource r : targets) {
+			if (r.getType() != IResource.FILE || !isUnchanged((IFile) r)) changed.add(r);
+		}
+		return changed;
+	}
+
+	private boolean isUnchanged(IFile resource) {
+		String path = path(resource);
+		Entry e = entries.get(path);
+		if (e == null || !resource.exists() || resource.getLocation() == null) return false;
+		File f = resource.getLocation().toFile();
+		if (f.length() != e.size || resource.getLocalTimeStamp() != e.modified) return false;
+		long crc;
+		try {
+			crc = crc(f);
+		} catch (IOException ex) {
+			return false;
+		}
+		computed.put(path, crc);
+		if (crc != e.crc) return false;
+		return f.lastModified() == e.modified || f.setLastModified(e.modified);
+	}
+
+	/**
+	 * Indexes the refreshed resources as they are now, and forgets the removed ones.
+	 * Files in refreshed directories are indexed too.
+	 * @param refreshed the refreshed resources.
+	 */
+	public void update(Collection<IResource> refreshed) {
+		for (IResource r : refreshed) {
+			String path = path(r);
+			File f = (r.getLocation() == null) ? null : r.getLocation().toFile();
+			if (f == null || !f.exists()) {
+				remove(path, r.getType() != IResource.FILE);
+			} else if (f.isDirectory()) {
+				remove(path, true);
+				addDirectory(path + "/", f);
+			} else {
+				add(path, f);
+			}
+		}
+		computed.clear();
+	}
+
+	private void add(String path, File f) {
+		try {
+			Long crc = computed.get(path);
+			entries.put(path, new Entry(f.length(), f.lastModified(), crc != null ? crc : crc(f)));
+		} catch (IOException e) {
+			entries.remove(path);
+		}
+	}
+
+	private void addDirectory(String prefix, File dir) {
+		File[] files = dir.listFiles();
+		if (files == null) return;
+		for (File f : files) {
+			if (f.isDirectory()) {
+				addDirectory(prefix + f.getName() + "/", f);
+			} else {
+				add(prefix + f.getName(), f);
+			}
+		}
+	}
+
+	private void remove(String path, boolean withContents) {
+		entries.remove(path);
+		if (!withContents) return;
+		String prefix = path + "/";
+		for (Iterator<String> i = entries.keySet().iterator(); i.hasNext();) {
+			if (i.next().startsWith(prefix)) i.remove();
+		}
+	}
+
+	/**
+	 * @return path of a resource relative to its project.
+	 */
+	private static String path(IResource r) {
+		return r.getProjectRelativePath().toString();
+	}
+
+	private static long crc(File f) throws IOException {
+		CRC32 crc = new CRC32();
+		byte[] buffer = new byte[BUFFER_SIZE];
+		InputStream in = new FileInputStream(f);
+		try {
+			int n;
+			while ((n = in.read(buffer)) > 0) {
+				crc.update(buffer, 0, n);
+			}
+		} finally {
+			in.close();
+		}
+		return crc.getValue();
+	}
+}
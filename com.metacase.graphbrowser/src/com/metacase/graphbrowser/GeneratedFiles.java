@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2011 MetaCase Consulting
+ * Released under the MIT license. See the file license.txt for details.
+ */
+
+package com.metacase.graphbrowser;
+
+import java.io.*;
+import java.util.*;
+
+import org.eclipse.core.resources.*;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.Path;
+import org.eclipse.core.runtime.SubMonitor;
+
+/**
+ * The files a generator run wrote to a project, so that the importer can refresh
+ * them instead of the whole project. If the generator lists the files it wrote in a
+ * manifest file, named with the changedFiles setting of plugin.ini, those files are
+ * refreshed. Otherwise the project directory is compared with the workspace: the
+ * files modified since the run started, the files and directories not in the
+ * workspace yet and the resources whose files are gone are refreshed. Of those, the
+ * files whose contents are the same as before are left out; see GeneratedFileIndex.
+ */
+public class GeneratedFiles {
+
+	// Some file systems store the modification times in 2 second steps.
+	private static final long TIME_SLACK_MS = 2000;
+
+	private final long since;
+	private final List<String> manifest;
+
+	/**
+	 * Constructor.
+	 * @param since time the generator run started, in milliseconds.
+	 * @param manifest paths of the written files relative to the project, or null if
+	 * the generator gave no manifest.
+	 */
+	public GeneratedFiles(long since, List<String> manifest) {
+		this.since = since;
+		this.manifest = manifest;
+	}
+
+	/**
+	 * Reads a manifest file, which has a path relative to the project on each line.
+	 * @param file the manifest file.
+	 * @return the paths, or null if the file can not be read.
+	 */
+	public static List<String> readManifest(File file) {
+		if (!file.isFile()) return null;
+		ArrayList<String> paths = new ArrayList<String>();
+		try {
+			BufferedReader in = new BufferedReader(new InputStreamReader(new FileInputStream(file), "UTF-8"));
+			try {
+				String line;
+				while ((line = in.readLine()) != null) {
+					line = line.trim();
+					if (line.length() > 0) paths.add(line.replace('\\', '/'));
+				}
+			} finally {
+				in.close();
+			}
+		} catch (IOException e) {
+			e.printStackTrace();
+			return null;
+		}
+		return paths;
+	}
+
+	/**
+	 * Refreshes the generated files of a project.
+	 * @param project the open project.
+	 * @param monitor monitor for the progress, or null.
+	 * @return number of refreshed files and directories.
+	 * @throws CoreException if a refresh fails.
+	 */
+	public int refresh(IProject project, IProgressMonitor monitor) throws CoreException {
+		IPath location = project.getLocation();
+		if (location == null) {
+			project.refreshLocal(IResource.DEPTH_INFINITE, monitor);
+			return -1;
+		}
+		Collection<IResource> targets = (manifest != null) ? manifestResources(project) : findChanges(project, location.toFile());
+		GeneratedFileIndex index = Settings.getSettings().isGeneratedFileIndex() ? GeneratedFileIndex.load(project) : null;
+		if (index != null) targets = index.removeUnchanged(targets);
+		SubMonitor sub = SubMonitor.convert(monitor, targets.size());
+		for (IResource r : targets) {
+			r.refreshLocal(r.getType() == IResource.FILE ? IResource.DEPTH_ZERO : IResource.DEPTH_INFINITE, sub.newChild(1));
+		}
+		if (index != null) {
+			index.update(targets);
+			index.save();
+		}
+		return targets.size();
+	}
+
+	private Collection<IResource> manifestResources(IProject project) {
+		LinkedHashSet<IResource> targets = new LinkedHashSet<IResource>();
+		for (String path : manifest) {
+			IResource r = project.getFile(new Path(path));
+			// A file in a new directory appears when the directory is refreshed.
+			for (IContainer parent = r.getParent(); parent != project && !parent.exists(); parent = parent.getParent()) {
+				r = parent;
+			}
+			targets.add(r);
+		}
+		return targets;
+	}
+
+	/**
+	 * Compares the project directory with the workspace.
+	 */
+	private Collection<IResource> findChanges(IProject project, File root) throws CoreException {
+		final LinkedHashSet<IResource> targets = new LinkedHashSet<IResource>();
+		final HashSet<String> onDisk = new HashSet<String>();
+		walk(project, root, "", targets, onDisk);
+		// The resources whose files or directories the generator removed.
+		project.accept(new IResourceProxyVisitor() {
+			public boolean visit(IResourceProxy proxy) {
+				if (proxy.getType() == IResource.PROJECT) return true;
+				// Linked resources are not in the project directory.
+				if (proxy.isLinked()) return false;
+				String path = proxy.requestFullPath().removeFirstSegments(1).toString();
+				if (onDisk.contains(path)) return true;
+				targets.add(proxy.requestResource());
+				return false;
+			}
+		}, IResource.NONE);
+		return targets;
+	}
+
+	private void walk(IContainer container, File dir, String prefix, Set<IResource> targets, Set<String> onDisk) {
+		File[] files = dir.listFiles();
+		if (files == null) return;
+		long limit = since - TIME_SLACK_MS;
+		for (File f : files) {
+			String path = prefix + f.getName();
+			onDisk.add(path);
+			if (f.isDirectory()) {
+				IFolder folder = container.getFolder(new Path(f.getName()));
+				if (folder.exists()) {
+					walk(folder, f, path + "/", targets, onDisk);
+				} else {
+					// New, so all its contents are refreshed with it.
+					targets.add(folder);
+				}
+			} else {
+				IFile file = container.getFile(new Path(f.getName()));
+				if (!file.exists() || f.lastModified() >= limit) targets.add(file);
+			}
+		}
+	}
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2011 MetaCase Consulting
+ * Released under the MIT license. See the file license.txt for details.
+ */
+
+package com.metacase.graphbrowser;
+
+import java.rmi.RemoteException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+
+import com.metacase.API.*;
+import com.metacase.objects.Graph;
+
+/**
+ * Generator names of each graph type, so that the generator list opens without
+ * waiting for MetaEdit+ every time. The names are kept for the time set with the
+ * generatorCacheTTL setting, and forgotten when the graphs are updated, as the
+ * generators may have been changed in MetaEdit+ meanwhile. After a load, the names
+ * for the graph types of the loaded graphs can be fetched in the background with
+ * warmUp.
+ */
+public class GeneratorCache {
+
+	/**
+	 * Generator names fetched for one graph type.
+	 */
+	private static class Entry {
+		final String[] names;
+		final long time;
+
+		Entry(String[] names, long time) {
+			this.names = names;
+			this.time = time;
+		}
+	}
+
+	private static final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<String, Entry>();
+	// Changed by invalidate, so that a fetch started before it does not keep its old names.
+	private static final AtomicInteger generation = new AtomicInteger();
+	private static Job warmUpJob;
+
+	/**
+	 * Gets the generator names of a graph type, in the order MetaEdit+ gives them,
+	 * from the cache or from MetaEdit+.
+	 * @param type the graph type.
+	 * @return the generator names.
+	 * @throws RemoteException if the names could not be fetched.
+	 */
+	public static String[] getGeneratorNames(METype type) throws RemoteException {
+		Entry e = entries.get(type.getName());
+		if (e != null && !isExpired(e)) return e.names.clone();
+		return fetch(type).clone();
+	}
+
+	/**
+	 * Tells whether the generator names of a graph type are in the cache.
+	 * @param type the graph type.
+	 * @return true if the names can be given without calling MetaEdit+.
+	 */
+	public static boolean isCached(METype type) {
+		Entry e = entries.get(type.getName());
+		return e != null && !isExpired(e);
+	}
+
+	/**
+	 * Forgets all generator names, and stops fetching them in the background.
+	 */
+	public static void invalidate() {
+		cancelWarmUp();
+		generation.incrementAndGet();
+		entries.clear();
+	}
+
+	/**
+	 * Fetches in the background the generator names for the graph types of the
+	 * given graphs that are not in the cache yet. Does nothing if warm-up is off
+	 * in the settings, or if MetaEdit+ is older than 5.0, which has no generator list.
+	 * @param graphs the loaded graphs.
+	 */
+	public static synchronized void warmUp(Collection<Graph> graphs) {
+		Settings s = Settings.getSettings();
+		if (!s.isGeneratorWarmUp() || s.getGeneratorCacheTTL() <= 0 || !s.getVersion().isAtLeast("5.0")) return;
+		final LinkedHashMap<String, METype> types = new LinkedHashMap<String, METype>();
+		for (Graph g : graphs) {
+			if (g.getType() != null && !types.containsKey(g.getType()) && !isCached(g.getMEType())) {
+				types.put(g.getType(), g.getMEType());
+			}
+		}
+		if (types.isEmpty()) return;
+		cancelWarmUp();
+		warmUpJob = new Job("Fetching MetaEdit+ generator names") {
+			protected IStatus run(IProgressMonitor monitor) {
+				monitor.beginTask(getName(), types.size());
+				try {
+					for (METype type : types.values()) {
+						if (monitor.isCanceled()) return Status.CANCEL_STATUS;
+						if (!isCached(type)) {
+							try {
+								fetch(type);
+							} catch (RemoteException e) {
+								// The list is fetched again when it is opened.
+							}
+						}
+						monitor.worked(1);
+					}
+				} finally {
+					monitor.done();
+				}
+				return Status.OK_STATUS;
+			}
+		};
+		warmUpJob.setSystem(true);
+		warmUpJob.setPriority(Job.DECORATE);
+		warmUpJob.schedule();
+	}
+
+	private static synchronized void cancelWarmUp() {
+		if (warmUpJob != null) warmUpJob.cancel();
+		warmUpJob = null;
+	}
+
+	/**
+	 * Fetches the generator names of a graph type and keeps them, unless the cache
+	 * was invalidated during the call or caching is off.
+	 */
+	private static String[] fetch(METype type) throws RemoteException {
+		int g = generation.get();
+		String line = Launcher.getPort().generatorNames(type);
+		// MetaEdit+ separates the names with carriage returns.
+		String[] names = (line == null || line.length() == 0) ? new String[0] : line.split("\r");
+		if (Settings.getSettings().getGeneratorCacheTTL() > 0) {
+			Entry e = new Entry(names, System.currentTimeMillis());
+			entries.put(type.getName(), e);
+			if (generation.get() != g) entries.remove(type.getName(), e);
+		}
+		return names;
+	}
+
+	private static boolean isExpired(Entry e) {
+		long ttl = Settings.getSettings().getGeneratorCacheTTL() * 1000L;
+		return System.currentTimeMillis() - e.time >= ttl;
+	}
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2011 MetaCase Consulting
+ * Released under the MIT license. See the file license.txt for details.
+ */
+
+package com.metacase.graphbrowser;
+
+import java.io.File;
+
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.resources.WorkspaceJob;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.IJobChangeEvent;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.core.runtime.jobs.JobChangeAdapter;
+
+import com.metacase.objects.Graph;
+
+/**
+ * Runs generators in the background. A generator run is a GeneratorJob, which writes
+ * the plugin.ini file to a directory of its own under the MetaEdit+ working directory,
+ * runs the generator with that as the MetaEdit+ current directory, moves any other
+ * generated files to the working directory and removes the directory, followed by an
+ * ImportJob, which imports, builds and launches the generated project, refreshing only
+ * the files the generator wrote; see GeneratedFiles. Both show their progress in the
+ * Progress view and can be cancelled there, or all at once with cancelAll.
+ * <p>
+ * As each run has its own plugin.ini file, runs can be in progress at the same time:
+ * MetaEdit+ runs one generator at a time, but one run can be written, read or
+ * imported while another one is generating.
+ */
+public class GeneratorQueue {
+
+	/**
+	 * Job family of the generator and import jobs.
+	 */
+	public static final Object FAMILY = GeneratorQueue.class;
+
+	/**
+	 * Starts a generator run for a graph, in the working directory in the settings.
+	 * @param graph the graph.
+	 * @param generator name of the generator.
+	 */
+	public static void run(Graph graph, String generator) {
+		new GeneratorJob(graph, generator, Settings.getSettings().getWorkingDirectory()).schedule();
+	}
+
+	/**
+	 * Cancels the waiting and running generator runs. A generator already running in
+	 * MetaEdit+ finishes, but its result is not imported.
+	 */
+	public static void cancelAll() {
+		Job.getJobManager().cancel(FAMILY);
+	}
+
+	/**
+	 * Runs a generator in MetaEdit+ and starts the import of its result.
+	 */
+	static class GeneratorJob extends Job {
+		private final Graph graph;
+		private final String generator;
+		private final String workingDirectory;
+		private volatile ImportJob importJob;
+
+		GeneratorJob(Graph graph, String generator, String workingDirectory) {
+			super("Running generator " + generator + " for " + graph.getName());
+			this.graph = graph;
+			this.generator = generator;
+			this.workingDirectory = workingDirectory;
+			addJobChangeListener(new JobChangeAdapter() {
+				public void done(IJobChangeEvent event) {
+					if (importJob != null) importJob.schedule();
+				}
+			});
+		}
+
+		public boolean belongsTo(Object family) {
+			return family == FAMILY;
+		}
+
+		protected IStatus run(IProgressMonitor monitor) {
+			File runDirectory = null;
+			monitor.beginTask(getName(), 3);
+			try {
+				if (monitor.isCanceled()) return Status.CANCEL_STATUS;
+				monitor.subTask("Writing plugin.ini");
+				runDirectory = Importer.createRunDirectory(workingDirectory);
+				if (runDirectory == null) {
+					DialogProvider.showMessageDialog("Could not create a directory for the generator run under "
+							+ workingDirectory + ".", "Generator error");
+					return Status.OK_STATUS;
+				}
+				String iniPath = Importer.writePluginIniFile(runDirectory.getPath());
+				monitor.worked(1);
+				if (monitor.isCanceled()) return Status.CANCEL_STATUS;
+				monitor.subTask("Waiting for MetaEdit+ to run the generator");
+				long started = System.currentTimeMillis();
+				// MetaEdit+ can not be interrupted, so a cancel takes effect when this returns.
+				boolean generated = graph.runGenerator(Launcher.getPort(), generator, runDirectory);
+				monitor.worked(1);
+				monitor.subTask("Reading plugin.ini");
+				IniHandler h = new IniHandler(iniPath);
+				String projectName = h.getSetting("projectName");
+				String classToLaunch = h.getSetting("classToLaunch");
+				String manifest = h.getSetting("changedFiles");
+				graph.setProjectName(projectName);
+				graph.setClassToLaunch(classToLaunch);
+				monitor.worked(1);
+				// The API error has been shown by runGenerator.
+				if (!generated) return Status.OK_STATUS;
+				if (monitor.isCanceled()) return Status.CANCEL_STATUS;
+				/* null values show that those values were not included in ini file.
+				   In that case graph's name is used for both project name and main class name. */
+				GeneratedFiles files = null;
+				if (Settings.getSettings().isTargetedRefresh()) {
+					// A relative manifest path is in the run directory, which is removed below.
+					File manifestFile = (manifest == null) ? null : new File(manifest);
+					if (manifestFile != null && !manifestFile.isAbsolute()) manifestFile = new File(runDirectory, manifest);
+					files = new GeneratedFiles(started, manifestFile == null ? null : GeneratedFiles.readManifest(manifestFile));
+				}
+				importJob = new ImportJob(
+						projectName == null ? graph.getName() : projectName,
+						classToLaunch == null ? "_" + graph.getName() : classToLaunch, files);
+				return Status.OK_STATUS;
+			} finally {
+				// Also when the run failed, so that no run directories are left behind.
+				File kept = (runDirectory == null) ? null : Importer.finishRunDirectory(runDirectory, workingDirectory);
+				if (kept != null) {
+					DialogProvider.showMessageDialog("Could not move all files the generator wrote to "
+							+ workingDirectory + ". The files that were not moved are in " + kept + ".",
+							"Generator error");
+				}
+				monitor.done();
+			}
+		}
+	}
+
+	/**
+	 * Imports, builds and launches a generated project. Uses the workspace root as its
+	 * rule, as it may create a project.
+	 */
+	static class ImportJob extends WorkspaceJob {
+		private final String projectName;
+		private final String classToLaunch;
+		private final GeneratedFiles files;
+
+		ImportJob(String projectName, String classToLaunch, GeneratedFiles files) {
+			super("Importing " + projectName);
+			this.projectName = projectName;
+			this.classToLaunch = classToLaunch;
+			this.files = files;
+			setRule(ResourcesPlugin.getWorkspace().getRoot());
+		}
+
+		public boolean belongsTo(Object family) {
+			return family == FAMILY;
+		}
+
+		public IStatus runInWorkspace(IProgressMonitor monitor) throws CoreException {
+			if (monitor.isCanceled()) return Status.CANCEL_STATUS;
+			Importer.importAndExecute(projectName, classToLaunch, files, monitor);
+			return monitor.isCanceled() ? Status.CANCEL_STATUS : Status.OK_STATUS;
+		}
+	}
+}
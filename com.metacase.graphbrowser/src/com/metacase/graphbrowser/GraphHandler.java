@@ -8,8 +8,12 @@ package com.metacase.graphbrowser;
 import java.rmi.RemoteException;
 import java.util.*;
 
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+
 import com.metacase.API.*;
 import com.metacase.objects.Graph;
+import com.metacase.objects.GraphCache;
 
 /**
  * Graph handler class that gets graphs from MetaEdit+ as MEOop objects and creates
@@ -17,19 +21,116 @@ import com.metacase.objects.Graph;
  */
 public class GraphHandler {
 
+	private static String lastLoadReport = "";
+	private static volatile boolean lastLoadComplete = true;
+	private static GraphLoader lazyLoader;
+
 	/**
 	 * Initializes the graph view by getting the graphs from MetaEdit.
 	 * @return Array of graphs.
 	 * @throws RemoteException 
 	 */
-	@SuppressWarnings({ "unchecked", "rawtypes" })
 	public static Graph [] init() {
-		MetaEditAPIPortType port = Launcher.getPort();
+		return load(false, null, null);
+	}
+
+	/**
+	 * Updates the previously loaded graphs. Only the graphs whose MetaEdit+ time stamp
+	 * has changed, and new graphs, are fetched again. The Graph caches must not be reset
+	 * before calling this.
+	 * @return Array of graphs.
+	 */
+	public static Graph [] refresh() {
+		return load(true, null, null);
+	}
+
+	/**
+	 * Loads or refreshes the graphs, reporting the progress to the monitor. The load
+	 * stops when the monitor is cancelled, and the graphs loaded so far are returned;
+	 * their subgraphs that were not fetched are fetched when they are asked for with
+	 * getChildren.
+	 * @param incremental true to refresh the previously loaded graphs, as in refresh.
+	 * @param monitor progress monitor, or null.
+	 * @param listener listener told about the graphs in batches as they are created, or null.
+	 * @return Array of top level graphs.
+	 */
+	public static Graph [] load(boolean incremental, IProgressMonitor monitor, GraphLoader.Listener listener) {
+		if (monitor == null) monitor = new NullProgressMonitor();
+		try {
+			return load(incremental, monitor, listener, Launcher.getPort());
+		} finally {
+			monitor.done();
+		}
+	}
+
+	/**
+	 * Tells whether the last load or refresh loaded all the graphs, or was cancelled.
+	 * @return false if the last load was cancelled.
+	 */
+	public static boolean isLastLoadComplete() {
+		return lastLoadComplete;
+	}
+
+	/**
+	 * Gets a short report of the last load or refresh, telling how many API calls
+	 * were made and saved.
+	 * @return the report text.
+	 */
+	public static String getLastLoadReport() {
+		return lastLoadReport;
+	}
+
+	/**
+	 * Gets the subgraphs of a graph. When the graphs are loaded lazily, the subgraphs
+	 * are fetched from MetaEdit+ the first time they are asked for.
+	 * @param g the graph.
+	 * @return the subgraphs.
+	 */
+	public static Graph [] getChildren(Graph g) {
+		if (g.isChildrenLoaded()) return g.getChildren();
+		return lazyLoader().fetchChildren(g);
+	}
+
+	/**
+	 * Gets the subgraphs of a graph sorted by name, fetching them as getChildren does.
+	 * The sorted list is shared, and the children are sorted only when they change
+	 * or the graphs are loaded.
+	 * @param g the graph.
+	 * @return unmodifiable list of the subgraphs.
+	 */
+	public static List<Graph> getSortedChildren(Graph g) {
+		if (!g.isChildrenLoaded()) lazyLoader().fetchChildren(g);
+		return g.getSortedChildren();
+	}
+
+	/**
+	 * Fetches the subgraphs of the graphs that have not been fetched yet, in parallel.
+	 * Used for fetching the next level of the tree before it is opened.
+	 * @param graphs graphs whose subgraphs are fetched.
+	 */
+	public static void prefetchChildren(Graph [] graphs) {
+		lazyLoader().fetchChildren(graphs);
+	}
+
+	private static synchronized GraphLoader lazyLoader() {
+		if (lazyLoader == null) lazyLoader = GraphLoader.fromSettings(Launcher.getPort());
+		return lazyLoader;
+	}
+
+	private static synchronized void setLazyLoader(GraphLoader loader) {
+		if (lazyLoader != null && lazyLoader != loader) lazyLoader.shutdown();
+		lazyLoader = loader;
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static Graph [] load(boolean incremental, IProgressMonitor monitor, GraphLoader.Listener listener,
+			MetaEditAPIPortType port) {
 		METype graphType = new METype();
 		graphType.setName("Graph");
 		ArrayList <Graph> graphs = new ArrayList<Graph>();
 		ArrayList <Graph> topLevelGraphs = new ArrayList<Graph>();
 		MEOop [] meOops = new MEOop[0];
+		lastLoadComplete = true;
 		if (!Launcher.isApiOK()) return topLevelGraphs.toArray(new Graph[topLevelGraphs.size()]);
 		try {
 			// fetch all instances type of "graph"
@@ -38,25 +139,68 @@ public class GraphHandler {
 			DialogProvider.showMessageDialog("API error: " + e.toString(), "API error");
 			e.printStackTrace();
 			}
-		for (MEOop m : meOops) {
-			Graph g = null;
-			try {
-				// cast MeOop objects to Graph objects
-			    g = Graph.MEOopToGraph(m);
-			} catch (RemoteException e) {
-			    e.printStackTrace();
+		boolean lazy = Settings.getSettings().isLazyLoading();
+		// One unit for creating each graph and one for fetching its subgraphs.
+		monitor.beginTask("Loading MetaEdit+ graphs", lazy ? meOops.length : 2 * meOops.length);
+		// cast MeOop objects to Graph objects and init every graph with its children
+		GraphCache cache = Graph.getCache();
+		cache.setMaxSize(Settings.getSettings().getGraphCacheSize());
+		long hits = cache.getHits(), misses = cache.getMisses(), evictions = cache.getEvictions();
+		GraphLoader loader = GraphLoader.fromSettings(port);
+		loader.setProgressMonitor(monitor);
+		loader.setListener(listener);
+		// Subgraphs not fetched by the load, lazily or because it is cancelled, are
+		// fetched by the same loader when the graphs are opened.
+		setLazyLoader(loader);
+		Graph[] loaded;
+		try {
+			if (lazy) {
+				loaded = loader.loadLazily(meOops, incremental);
+			} else {
+				loaded = incremental ? loader.refresh(meOops) : loader.load(meOops);
 			}
+		} finally {
+			lastLoadComplete = !loader.isCanceled();
+			loader.setProgressMonitor(null);
+			loader.setListener(null);
+		}
+		for (Graph g : loaded) {
 			graphs.add(g);
+			// Sort once here, as the names of the children may have changed.
+			g.sortChildren();
 		}
-		ArrayList<Graph> done = new ArrayList<Graph>();
-		for (Graph g : graphs) {
-			try {
-				// init every graph with its children
-				g.initChildren(port, done);
-			} catch (Exception e) { 
-			    e.printStackTrace();
-			}
+		if (!lastLoadComplete) {
+			lastLoadReport = "Loading cancelled: " + graphs.size() + " of " + meOops.length
+				+ " graphs loaded, their remaining subgraphs are fetched when opened: "
+				+ loader.getApiCalls() + " API calls made.";
+		} else if (lazy) {
+			lastLoadReport = "Loaded " + loader.getGraphCount() + " graphs without subgraphs: "
+				+ loader.getApiCalls() + " API calls made.";
+		} else if (incremental) {
+			lastLoadReport = "Refreshed " + (loader.getGraphCount() - loader.getUnchangedCount()) + " of "
+				+ loader.getGraphCount() + " graphs, " + loader.getRemovedCount() + " removed: "
+				+ loader.getApiCalls() + " API calls made, " + loader.getSavedCalls() + " saved.";
+		} else {
+			lastLoadReport = "Loaded " + loader.getGraphCount() + " graphs: " + loader.getApiCalls() + " API calls made.";
 		}
+		GraphResolver resolver = loader.getResolver();
+		lastLoadReport += " Graphs resolved in " + resolver.getBatchCount() + " batches taking "
+			+ resolver.getTotalMillis() + " ms. Graph cache: " + (cache.getHits() - hits) + " hits, "
+			+ (cache.getMisses() - misses) + " misses, " + (cache.getEvictions() - evictions) + " evictions.";
+		return topLevelGraphs(graphs);
+	}
+
+	/**
+	 * Finds the graphs shown at the top of the tree: the graphs that are not subgraphs
+	 * of any other graph, and, for the graphs not reachable from them, the graph with
+	 * the most subgraphs in each group of graphs that are only subgraphs of each other.
+	 * @param loaded all loaded graphs, with their subgraphs.
+	 * @return Array of top level graphs.
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public static Graph [] topLevelGraphs(Collection<Graph> loaded) {
+		ArrayList <Graph> graphs = new ArrayList<Graph>(loaded);
+		ArrayList <Graph> topLevelGraphs = new ArrayList<Graph>();
 		// Separate "top level"or "parent" graphs (graphs that are not children of any other graph)
 		for (Graph g : graphs) {
 			if (!g.getIsChild()) topLevelGraphs.add(g);
@@ -70,10 +214,10 @@ public class GraphHandler {
 			}
 		});
 		
-		ArrayList<Graph> reachableGraphs = reachableGraphs(topLevelGraphs);
+		HashSet<Long> reachableGraphs = reachableGraphs(topLevelGraphs);
 		
 		for ( Graph g : graphs ) {
-			if (!reachableGraphs.contains(g)) {
+			if (!reachableGraphs.contains(g.getKey())) {
 				topLevelGraphs.add(g);
 				buildReachableGraphs(g, reachableGraphs);
 			}
@@ -81,19 +225,29 @@ public class GraphHandler {
 		return topLevelGraphs.toArray(new Graph[topLevelGraphs.size()]);
 	}
 	
-	private static ArrayList<Graph> reachableGraphs(ArrayList<Graph> topLevelGraphs) {
-		ArrayList<Graph> done = new ArrayList<Graph>();
+	private static HashSet<Long> reachableGraphs(ArrayList<Graph> topLevelGraphs) {
+		HashSet<Long> done = new HashSet<Long>();
 		for (Graph g : topLevelGraphs) {
 			buildReachableGraphs(g, done);
 		}
 		return done;
 	}
 	
-	private static void buildReachableGraphs(Graph g, ArrayList<Graph> done) {
-		if(done.contains(g)) return;
-		done.add(g);
-		for(Graph child : g.getChildren()) {
-			buildReachableGraphs(child, done);
+	/**
+	 * Adds the keys of the graph and all graphs reachable from it to the done set.
+	 * Uses an explicit work stack, so deep subgraph chains do not overflow the call stack.
+	 * @param g graph to start from.
+	 * @param done keys of the graphs that are already reached.
+	 */
+	private static void buildReachableGraphs(Graph g, Set<Long> done) {
+		ArrayDeque<Graph> stack = new ArrayDeque<Graph>();
+		stack.push(g);
+		while (!stack.isEmpty()) {
+			Graph graph = stack.pop();
+			if (!done.add(graph.getKey())) continue;
+			for (Graph child : graph.getChildren()) {
+				stack.push(child);
+			}
 		}
 	}
 }
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2011 MetaCase Consulting
+ * Released under the MIT license. See the file license.txt for details.
+ */
+
+package com.metacase.graphbrowser;
+
+import java.util.*;
+
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.jface.resource.ImageDescriptor;
+import org.eclipse.jface.resource.ImageRegistry;
+import org.eclipse.swt.graphics.Image;
+import org.osgi.framework.Bundle;
+
+import com.metacase.objects.Graph;
+
+/**
+ * Images for the graphs shown in the graph browser. The images are kept in the image
+ * registry of the plugin, which disposes them when the plugin is stopped, so each image
+ * is created only once however many graphs show it.
+ * <p>
+ * A graph type can have its own icon: a file in the icons/graphtypes folder named after
+ * the graph type name, for example icons/graphtypes/Family Tree.png. Characters not
+ * allowed in file names are replaced with underscores. Graph types without their own
+ * icon use icons/graph_icon.png. The icon file of each graph type is looked up only once.
+ * <p>
+ * Must be used in the UI thread.
+ */
+public class GraphImages {
+
+	public static final String GRAPH_ICON = "icons/graph_icon.png";
+	public static final String GRAPH_TYPE_ICON_FOLDER = "icons/graphtypes/";
+	private static final String[] EXTENSIONS = { ".png", ".gif" };
+
+	// Icon path of each graph type, by the type.
+	private static HashMap<String, String> typeIcons = new HashMap<String, String>();
+
+	/**
+	 * Gets the image for a graph.
+	 * @param graph the graph.
+	 * @return the image of its graph type, or null if the plugin is not running.
+	 */
+	public static Image getImage(Graph graph) {
+		return getImage(iconPath(graph));
+	}
+
+	/**
+	 * Gets the image for an icon in the plugin.
+	 * @param path plugin relative path of the icon.
+	 * @return the image, or null if the plugin is not running.
+	 */
+	public static Image getImage(String path) {
+		Activator plugin = Activator.getDefault();
+		if (plugin == null) return null;
+		ImageRegistry registry = plugin.getImageRegistry();
+		Image image = registry.get(path);
+		if (image == null) {
+			ImageDescriptor descriptor = Activator.getImageDescriptor(path);
+			if (descriptor == null) descriptor = ImageDescriptor.getMissingImageDescriptor();
+			registry.put(path, descriptor);
+			image = registry.get(path);
+		}
+		return image;
+	}
+
+	/**
+	 * Gets the path of the icon for the graph type of a graph.
+	 */
+	private static String iconPath(Graph graph) {
+		String type = graph.getType();
+		if (type == null) return GRAPH_ICON;
+		String path = typeIcons.get(type);
+		if (path == null) {
+			path = findTypeIcon(graph.getTypeName());
+			if (path == null) path = findTypeIcon(type);
+			if (path == null) path = GRAPH_ICON;
+			typeIcons.put(type, path);
+		}
+		return path;
+	}
+
+	/**
+	 * Finds the icon file for a graph type name in the plugin.
+	 * @return the plugin relative path, or null if there is no icon.
+	 */
+	private static String findTypeIcon(String name) {
+		Bundle bundle = Platform.getBundle(Activator.PLUGIN_ID);
+		if (name == null || name.length() == 0 || bundle == null) return null;
+		String fileName = name.replaceAll("[\\\\/:*?\"<>|]", "_");
+		for (String extension : EXTENSIONS) {
+			String path = GRAPH_TYPE_ICON_FOLDER + fileName + extension;
+			if (bundle.getEntry(path) != null) return path;
+		}
+		return null;
+	}
+}
@@ -0,0 +1,645 @@
+/*
+ * Copyright (c) 2011 MetaCase Consulting
+ * Released under the MIT license. See the file license.txt for details.
+ */
+
+package com.metacase.graphbrowser;
+
+import java.lang.reflect.Method;
+import java.rmi.RemoteException;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+
+import com.metacase.API.*;
+import com.metacase.objects.Graph;
+
+/**
+ * Graph loader that fetches graphs and their subgraphs from MetaEdit+ using a pool
+ * of worker threads. The API calls for different graphs are made in parallel, but
+ * the number of requests in flight is limited so that MetaEdit+ is not flooded.
+ * The resulting graphs and their children are the same as when the subgraphs of
+ * each graph are fetched one graph at a time.
+ * <p>
+ * The loader can also refresh previously loaded graphs: graphs whose MetaEdit+
+ * time stamp has not changed keep their name, type and children, and only new
+ * and changed graphs are fetched again.
+ * <p>
+ * In lazy mode only the graphs themselves are loaded, and the subgraphs of a graph
+ * are fetched when they are first needed. The loader then stays in use for fetching
+ * the subgraphs, and every graph's subgraphs are fetched only once.
+ * <p>
+ * The graphs are created with a GraphResolver, in batches of BATCH_SIZE graphs and
+ * one batch for the new subgraphs found on each level. A listener is told about each
+ * batch as it arrives, and the load can be cancelled through the progress monitor.
+ * A cancelled load returns the graphs created so far. Graphs whose subgraphs were not
+ * fetched are left with isChildrenLoaded false, so they fetch them when they are opened.
+ */
+public class GraphLoader {
+
+	/**
+	 * Number of graphs created in one batch before the listener is told about them.
+	 */
+	public static final int BATCH_SIZE = 256;
+
+	/**
+	 * Listener for the graphs created during a load.
+	 */
+	public interface Listener {
+		/**
+		 * Called in the loading thread for each batch of created graphs. The subgraphs
+		 * of the graphs may not have been fetched yet.
+		 * @param graphs the created graphs.
+		 */
+		void graphsLoaded(Graph[] graphs);
+	}
+
+	private MetaEditAPIPortType port;
+	private int threads;
+	private Semaphore requestPermits;
+	private GraphResolver resolver;
+	private ConcurrentHashMap<Long, FutureTask<Graph>> resolved = new ConcurrentHashMap<Long, FutureTask<Graph>>();
+	private ConcurrentHashMap<Long, FutureTask<Graph[]>> fetched = new ConcurrentHashMap<Long, FutureTask<Graph[]>>();
+	private AtomicInteger apiCalls = new AtomicInteger();
+	private volatile IProgressMonitor monitor = new NullProgressMonitor();
+	private volatile Listener listener;
+	private volatile boolean canceled;
+	private int graphCount;
+	private int unchangedCount;
+	private int removedCount;
+	private int typeCount;
+
+	/**
+	 * Constructor.
+	 * @param port Port for API calls.
+	 * @param threads number of worker threads.
+	 * @param maxRequestsInFlight maximum number of API requests made at the same time.
+	 * @param useTimeStamps true if graph time stamps are fetched, so that the graphs can be refreshed later.
+	 */
+	public GraphLoader(MetaEditAPIPortType port, int threads, int maxRequestsInFlight, boolean useTimeStamps) {
+		this.port = countingPort(port);
+		this.threads = Math.max(1, threads);
+		this.requestPermits = new Semaphore(Math.max(1, maxRequestsInFlight), true);
+		this.resolver = new GraphResolver(this.port, this.threads, this.requestPermits);
+		this.resolver.setFetchTimeStamps(useTimeStamps);
+	}
+
+	/**
+	 * Creates a loader that uses the pool size, request limit and refresh mode from the settings.
+	 * @param port Port for API calls.
+	 * @return the created loader.
+	 */
+	public static GraphLoader fromSettings(MetaEditAPIPortType port) {
+		Settings s = Settings.getSettings();
+		return new GraphLoader(port, s.getLoaderThreads(), s.getMaxRequestsInFlight(), s.isIncrementalRefresh());
+	}
+
+	/**
+	 * Creates graphs for the given MEOops and initializes the children of every graph
+	 * reachable from them.
+	 * @param meOops graphs to load.
+	 * @return Graphs in the same order as the MEOops. Graphs that could not be fetched are left out.
+	 */
+	public Graph[] load(MEOop[] meOops) {
+		return run(meOops, false);
+	}
+
+	/**
+	 * Updates the previously loaded graphs to match the given MEOops. Graphs with an unchanged
+	 * time stamp are not fetched again, graphs that are no longer in MetaEdit+ are removed
+	 * from the Graph cache and new or changed graphs are fetched with their subgraphs.
+	 * @param meOops all graphs now in MetaEdit+.
+	 * @return Graphs in the same order as the MEOops. Graphs that could not be fetched are left out.
+	 */
+	public Graph[] refresh(MEOop[] meOops) {
+		return run(meOops, true);
+	}
+
+	/**
+	 * Creates graphs for the given MEOops without fetching their subgraphs. When refreshing,
+	 * unchanged graphs keep the subgraphs fetched earlier; other graphs fetch their subgraphs
+	 * again with fetchChildren. Graphs are marked as children only if they are subgraphs
+	 * of a graph whose subgraphs are known.
+	 * @param meOops all graphs now in MetaEdit+.
+	 * @param incremental true to refresh the previously loaded graphs.
+	 * @return Graphs in the same order as the MEOops. Graphs that could not be fetched are left out.
+	 */
+	public Graph[] loadLazily(MEOop[] meOops, boolean incremental) {
+		Set<Long> upToDate = new HashSet<Long>();
+		ArrayList<Graph> previous = incremental ? Graph.cachedGraphs() : new ArrayList<Graph>();
+		ArrayList<Graph> graphs = resolveAll(meOops, incremental, upToDate);
+		HashSet<Long> current = keys(meOops);
+		for (Graph g : previous) {
+			if (!current.contains(g.getKey())) {
+				Graph.forget(g);
+				removedCount++;
+			}
+		}
+		for (Graph g : graphs) {
+			g.setIsChild(false);
+			if (!upToDate.contains(g.getKey())) {
+				g.invalidateChildren();
+				continue;
+			}
+			for (Graph child : g.getChildren()) {
+				if (!current.contains(child.getKey())) {
+					g.invalidateChildren();
+					break;
+				}
+			}
+		}
+		for (Graph g : graphs) {
+			if (!g.isChildrenLoaded()) continue;
+			for (Graph child : g.getChildren()) {
+				child.setIsChild(true);
+			}
+		}
+		unchangedCount = upToDate.size();
+		graphCount = graphs.size();
+		return graphs.toArray(new Graph[graphs.size()]);
+	}
+
+	/**
+	 * Gets the subgraphs of a graph, fetching them from MetaEdit+ if they have not been
+	 * fetched yet. If another thread is already fetching them, waits for its result.
+	 * @param g the graph.
+	 * @return the subgraphs, or the previously known subgraphs if the fetch failed.
+	 */
+	public Graph[] fetchChildren(final Graph g) {
+		if (g.isChildrenLoaded()) return g.getChildren();
+		Long key = Long.valueOf(g.getKey());
+		FutureTask<Graph[]> f = fetched.get(key);
+		if (f == null) {
+			FutureTask<Graph[]> task = new FutureTask<Graph[]>(new Callable<Graph[]>() {
+				public Graph[] call() throws Exception {
+					Graph[] children = resolveAll(subgraphOops(g), null);
+					if (Arrays.asList(children).contains(null)) {
+						throw new RemoteException("Could not fetch the subgraphs of " + g);
+					}
+					for (Graph child : children) {
+						child.setIsChild(true);
+					}
+					g.setChildren(children);
+					return children;
+				}
+			});
+			f = fetched.putIfAbsent(key, task);
+			if (f == null) {
+				f = task;
+				task.run();
+			}
+		}
+		Graph[] children = get(f);
+		if (children == null) {
+			// Let the next call try again.
+			fetched.remove(key, f);
+			return g.getChildren();
+		}
+		return children;
+	}
+
+	/**
+	 * Fetches the subgraphs of the given graphs in parallel, so that they are ready
+	 * when the graphs are opened.
+	 * @param graphs graphs whose subgraphs are fetched.
+	 */
+	public void fetchChildren(Graph[] graphs) {
+		ExecutorService pool = newPool();
+		try {
+			ArrayList<Future<Graph[]>> futures = new ArrayList<Future<Graph[]>>();
+			for (final Graph g : graphs) {
+				if (g.isChildrenLoaded()) continue;
+				futures.add(pool.submit(new Callable<Graph[]>() {
+					public Graph[] call() {
+						return fetchChildren(g);
+					}
+				}));
+			}
+			for (Future<Graph[]> f : futures) {
+				get(f);
+			}
+		} finally {
+			pool.shutdownNow();
+		}
+	}
+
+	private ExecutorService newPool() {
+		return Executors.newFixedThreadPool(threads, new ThreadFactory() {
+			public Thread newThread(Runnable r) {
+				Thread t = new Thread(r, "MetaEdit+ graph loader");
+				t.setDaemon(true);
+				return t;
+			}
+		});
+	}
+
+	private static HashSet<Long> keys(MEOop[] meOops) {
+		HashSet<Long> keys = new HashSet<Long>();
+		for (MEOop m : meOops) {
+			keys.add(Graph.key(m));
+		}
+		return keys;
+	}
+
+	private Graph[] run(MEOop[] meOops, boolean incremental) {
+		ExecutorService pool = newPool();
+		try {
+			Set<Long> upToDate = new HashSet<Long>();
+			ArrayList<Graph> previous = incremental ? Graph.cachedGraphs() : new ArrayList<Graph>();
+			ArrayList<Graph> graphs = resolveAll(meOops, incremental, upToDate);
+			HashSet<Long> current = keys(meOops);
+			// Unchanged graphs that had a now removed subgraph, or whose subgraphs were
+			// not fetched, must still fetch their subgraphs.
+			for (Graph g : graphs) {
+				if (!upToDate.contains(g.getKey())) continue;
+				if (!g.isChildrenLoaded()) {
+					upToDate.remove(g.getKey());
+					continue;
+				}
+				for (Graph child : g.getChildren()) {
+					if (!current.contains(child.getKey())) {
+						upToDate.remove(g.getKey());
+						break;
+					}
+				}
+			}
+			Set<Long> reachable = initChildren(pool, graphs, upToDate);
+			for (Graph g : previous) {
+				// A cancelled load has not reached all graphs, so nothing is removed.
+				if (!canceled && !reachable.contains(g.getKey())) {
+					Graph.forget(g);
+					removedCount++;
+				}
+			}
+			unchangedCount = upToDate.size();
+			return graphs.toArray(new Graph[graphs.size()]);
+		} finally {
+			pool.shutdownNow();
+		}
+	}
+
+	/**
+	 * Creates graphs for all the MEOops in batches, until the load is cancelled. When
+	 * refreshing, graphs with an unchanged time stamp are taken from the Graph cache and
+	 * added to the upToDate set.
+	 */
+	private ArrayList<Graph> resolveAll(MEOop[] meOops, boolean incremental, Set<Long> upToDate) {
+		long[] timeStamps = null;
+		if (incremental) {
+			// The graphs found here are kept, as the cache may drop them before the time stamps come.
+			ArrayList<MEOop> cachedOops = new ArrayList<MEOop>();
+			ArrayList<Graph> cachedGraphs = new ArrayList<Graph>();
+			for (MEOop m : meOops) {
+				Graph g = Graph.lookup(m.getAreaID(), m.getObjectID());
+				if (g != null && g.getTimeStamp() != 0) {
+					cachedOops.add(m);
+					cachedGraphs.add(g);
+				}
+			}
+			long[] cachedTimeStamps = resolver.timeStamps(cachedOops.toArray(new MEOop[cachedOops.size()]));
+			HashMap<Long, Long> changed = new HashMap<Long, Long>();
+			for (int i = 0; i < cachedTimeStamps.length; i++) {
+				Graph g = cachedGraphs.get(i);
+				if (cachedTimeStamps[i] != 0 && cachedTimeStamps[i] == g.getTimeStamp()) {
+					upToDate.add(g.getKey());
+					markResolved(g);
+				} else {
+					changed.put(g.getKey(), cachedTimeStamps[i]);
+				}
+			}
+			timeStamps = new long[meOops.length];
+			for (int i = 0; i < meOops.length; i++) {
+				Long t = changed.get(Graph.key(meOops[i]));
+				if (t != null) timeStamps[i] = t;
+			}
+		}
+		ArrayList<Graph> graphs = new ArrayList<Graph>();
+		for (int start = 0; start < meOops.length && !isCanceled(); start += BATCH_SIZE) {
+			int end = Math.min(meOops.length, start + BATCH_SIZE);
+			Graph[] resolvedGraphs = resolveAll(Arrays.copyOfRange(meOops, start, end),
+					(timeStamps == null) ? null : Arrays.copyOfRange(timeStamps, start, end));
+			ArrayList<Graph> batch = new ArrayList<Graph>();
+			for (Graph g : resolvedGraphs) {
+				if (g != null) batch.add(g);
+			}
+			graphs.addAll(batch);
+			monitor.worked(end - start);
+			Listener l = listener;
+			if (l != null && !batch.isEmpty()) l.graphsLoaded(batch.toArray(new Graph[batch.size()]));
+		}
+		return graphs;
+	}
+
+	/**
+	 * Fetches the subgraphs level by level, starting from the given graphs. The subgraph
+	 * calls of one level run in parallel, and the children are set in this thread once
+	 * the whole level is done. Graphs in the upToDate set keep their children. When the
+	 * load is cancelled, the graphs whose subgraphs were not fetched keep their previous
+	 * children but are marked as not loaded.
+	 * @return keys of all graphs reachable from the given graphs.
+	 */
+	private Set<Long> initChildren(ExecutorService pool, ArrayList<Graph> graphs, Set<Long> upToDate) {
+		HashSet<Long> done = new HashSet<Long>();
+		ArrayList<Graph> reached = new ArrayList<Graph>();
+		ArrayList<Graph> level = new ArrayList<Graph>();
+		for (Graph g : graphs) {
+			if (done.add(g.getKey())) level.add(g);
+		}
+		while (!level.isEmpty()) {
+			reached.addAll(level);
+			ArrayList<Future<MEOop[]>> futures = new ArrayList<Future<MEOop[]>>();
+			for (final Graph g : level) {
+				if (upToDate.contains(g.getKey())) {
+					futures.add(null);
+					continue;
+				}
+				futures.add(pool.submit(new Callable<MEOop[]>() {
+					public MEOop[] call() throws Exception {
+						return isCanceled() ? null : subgraphOops(g);
+					}
+				}));
+			}
+			// Create the subgraphs of the whole level as one batch.
+			ArrayList<MEOop[]> subgraphOops = new ArrayList<MEOop[]>();
+			ArrayList<MEOop> levelOops = new ArrayList<MEOop>();
+			for (Future<MEOop[]> f : futures) {
+				MEOop[] oops = (f == null) ? null : get(f);
+				subgraphOops.add(oops);
+				if (oops != null) levelOops.addAll(Arrays.asList(oops));
+				monitor.worked(1);
+			}
+			HashMap<Long, Graph> levelGraphs = new HashMap<Long, Graph>();
+			MEOop[] levelArray = isCanceled() ? new MEOop[0] : levelOops.toArray(new MEOop[levelOops.size()]);
+			Graph[] resolvedGraphs = resolveAll(levelArray, null);
+			for (int i = 0; i < levelArray.length; i++) {
+				if (resolvedGraphs[i] != null) levelGraphs.put(Graph.key(levelArray[i]), resolvedGraphs[i]);
+			}
+			ArrayList<Graph> nextLevel = new ArrayList<Graph>();
+			for (int i = 0; i < level.size(); i++) {
+				Graph[] children;
+				if (futures.get(i) == null) {
+					children = level.get(i).getChildren();
+				} else {
+					children = children(subgraphOops.get(i), levelGraphs);
+					if (children == null) {
+						// Keep what was there before; a failed call does not remove subgraphs.
+						children = level.get(i).getChildren();
+						level.get(i).setChildren(children);
+						if (isCanceled()) level.get(i).invalidateChildren();
+					} else {
+						level.get(i).setChildren(children);
+					}
+				}
+				for (Graph child : children) {
+					if (done.add(child.getKey())) nextLevel.add(child);
+				}
+			}
+			level = nextLevel;
+		}
+		// A graph is a child if any reachable graph has it as a subgraph.
+		HashSet<String> types = new HashSet<String>();
+		for (Graph g : reached) {
+			g.setIsChild(false);
+			types.add(g.getType());
+		}
+		for (Graph g : reached) {
+			for (Graph child : g.getChildren()) {
+				child.setIsChild(true);
+			}
+		}
+		graphCount = reached.size();
+		typeCount = types.size();
+		return done;
+	}
+
+	/**
+	 * Fetches the MEOops of the subgraphs of a graph.
+	 * @param g graph whose subgraphs are fetched.
+	 * @return the subgraph MEOops.
+	 * @throws Exception
+	 */
+	private MEOop[] subgraphOops(Graph g) throws Exception {
+		MEOop[] subgraphOops;
+		requestPermits.acquire();
+		try {
+			subgraphOops = port.subgraphs(g.toMEOop());
+		} finally {
+			requestPermits.release();
+		}
+		return (subgraphOops == null) ? new MEOop[0] : subgraphOops;
+	}
+
+	/**
+	 * Gets the created graphs for the subgraph MEOops.
+	 * @return the children, or null if fetching the MEOops or any of the graphs failed.
+	 */
+	private static Graph[] children(MEOop[] subgraphOops, HashMap<Long, Graph> graphs) {
+		if (subgraphOops == null) return null;
+		Graph[] children = new Graph[subgraphOops.length];
+		for (int i = 0; i < subgraphOops.length; i++) {
+			children[i] = graphs.get(Graph.key(subgraphOops[i]));
+			if (children[i] == null) return null;
+		}
+		return children;
+	}
+
+	/**
+	 * Creates the Graphs for the MEOops. Every MEOop is fetched from MetaEdit+ only once
+	 * per load: MEOops that are not resolved yet are resolved as one batch, and for the
+	 * MEOops another thread is already resolving, waits for its result.
+	 * @param meOops MEOops to resolve.
+	 * @param timeStamps known time stamps of the MEOops, or null.
+	 * @return the Graphs in the same order as the MEOops, null for graphs that could not be fetched.
+	 */
+	private Graph[] resolveAll(MEOop[] meOops, long[] timeStamps) {
+		ArrayList<FutureTask<Graph>> tasks = new ArrayList<FutureTask<Graph>>();
+		ArrayList<FutureTask<Graph>> batchTasks = new ArrayList<FutureTask<Graph>>();
+		ArrayList<MEOop> batchOops = new ArrayList<MEOop>();
+		ArrayList<Long> batchTimeStamps = new ArrayList<Long>();
+		final ArrayList<Graph> batchGraphs = new ArrayList<Graph>();
+		for (int i = 0; i < meOops.length; i++) {
+			Long key = Long.valueOf(Graph.key(meOops[i]));
+			FutureTask<Graph> f = resolved.get(key);
+			if (f == null) {
+				final int index = batchOops.size();
+				FutureTask<Graph> task = new FutureTask<Graph>(new Callable<Graph>() {
+					public Graph call() throws Exception {
+						Graph g = batchGraphs.get(index);
+						if (g == null) throw new RemoteException("Could not fetch graph");
+						return g;
+					}
+				});
+				f = resolved.putIfAbsent(key, task);
+				if (f == null) {
+					f = task;
+					batchTasks.add(task);
+					batchOops.add(meOops[i]);
+					batchTimeStamps.add((timeStamps == null) ? 0L : timeStamps[i]);
+				}
+			}
+			tasks.add(f);
+		}
+		if (!batchOops.isEmpty()) {
+			long[] known = new long[batchOops.size()];
+			for (int i = 0; i < known.length; i++) {
+				known[i] = batchTimeStamps.get(i);
+			}
+			Graph[] graphs = null;
+			try {
+				graphs = resolver.resolve(batchOops.toArray(new MEOop[batchOops.size()]), known);
+			} finally {
+				// Complete the tasks of this batch, also for the threads waiting for them,
+				// and also if the resolver failed, so that those threads do not wait forever.
+				for (int i = 0; i < batchTasks.size(); i++) {
+					Graph g = (graphs == null || i >= graphs.length) ? null : graphs[i];
+					batchGraphs.add(g);
+					// A failed graph is tried again when it is met next time.
+					if (g == null) resolved.remove(Long.valueOf(Graph.key(batchOops.get(i))), batchTasks.get(i));
+					batchTasks.get(i).run();
+				}
+			}
+		}
+		Graph[] graphs = new Graph[meOops.length];
+		for (int i = 0; i < meOops.length; i++) {
+			graphs[i] = get(tasks.get(i));
+		}
+		return graphs;
+	}
+
+	/**
+	 * Marks an up to date graph as resolved, so that it is not fetched again when
+	 * it is found as a subgraph of a changed graph.
+	 * @param g the up to date graph.
+	 */
+	private void markResolved(final Graph g) {
+		FutureTask<Graph> task = new FutureTask<Graph>(new Callable<Graph>() {
+			public Graph call() {
+				return g;
+			}
+		});
+		task.run();
+		resolved.putIfAbsent(Long.valueOf(g.getKey()), task);
+	}
+
+	/**
+	 * Sets the progress monitor for reporting the progress of a load and checking
+	 * whether it has been cancelled. One unit of work is reported for each graph
+	 * created and for each graph whose subgraphs are fetched.
+	 * @param monitor the monitor, or null for none.
+	 */
+	public void setProgressMonitor(IProgressMonitor monitor) {
+		this.monitor = (monitor == null) ? new NullProgressMonitor() : monitor;
+	}
+
+	/**
+	 * Sets the listener told about the graphs as they are created.
+	 * @param listener the listener, or null for none.
+	 */
+	public void setListener(Listener listener) {
+		this.listener = listener;
+	}
+
+	/**
+	 * Tells whether a load of this loader has been cancelled. A cancelled load
+	 * returns only the graphs created before it was cancelled.
+	 * @return true if cancelled.
+	 */
+	public boolean isCanceled() {
+		if (!canceled && monitor.isCanceled()) canceled = true;
+		return canceled;
+	}
+
+	/**
+	 * Gets the number of API calls made by this loader.
+	 * @return number of calls.
+	 */
+	public int getApiCalls() {
+		return apiCalls.get();
+	}
+
+	/**
+	 * Stops the threads of the resolver. The loader can still be used; it starts them again.
+	 */
+	public void shutdown() {
+		resolver.shutdown();
+	}
+
+	/**
+	 * Gets the resolver that creates the graphs, for its batch figures.
+	 * @return the resolver.
+	 */
+	public GraphResolver getResolver() {
+		return resolver;
+	}
+
+	/**
+	 * Gets the number of graphs that were up to date in the last refresh.
+	 * @return number of graphs not fetched again.
+	 */
+	public int getUnchangedCount() {
+		return unchangedCount;
+	}
+
+	/**
+	 * Gets the number of graphs removed from the cache in the last refresh.
+	 * @return number of removed graphs.
+	 */
+	public int getRemovedCount() {
+		return removedCount;
+	}
+
+	/**
+	 * Gets the number of graphs loaded.
+	 * @return number of graphs reachable from the loaded MEOops.
+	 */
+	public int getGraphCount() {
+		return graphCount;
+	}
+
+	/**
+	 * Estimates how many API calls were saved compared to loading all graphs again
+	 * without time stamps: that takes a type, name and subgraphs call per graph and
+	 * a type name call per graph type.
+	 * @return number of calls saved, not counting the allSimilarInstances call.
+	 */
+	public int getSavedCalls() {
+		return Math.max(0, 3 * graphCount + typeCount - apiCalls.get());
+	}
+
+	/**
+	 * Waits for the result of a task and prints the stack trace if it failed.
+	 * @return result of the task or null if the task failed.
+	 */
+	private static <T> T get(Future<T> f) {
+		try {
+			return f.get();
+		} catch (ExecutionException e) {
+			unwrap(e).printStackTrace();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		return null;
+	}
+
+	private static Exception unwrap(ExecutionException e) {
+		Throwable cause = e.getCause();
+		if (cause instanceof ExecutionException) return unwrap((ExecutionException) cause);
+		if (cause instanceof Exception) return (Exception) cause;
+		return e;
+	}
+
+	/**
+	 * Wraps the port so that the API calls made through it are counted.
+	 */
+	private MetaEditAPIPortType countingPort(MetaEditAPIPortType target) {
+		return new PortDecorator(target) {
+			protected Object call(Method method, Object[] args) throws Throwable {
+				apiCalls.incrementAndGet();
+				return invokeTarget(method, args);
+			}
+		}.port();
+	}
+}
@@ -0,0 +1,377 @@
+/*
+ * Copyright (c) 2011 MetaCase Consulting
+ * Released under the MIT license. See the file license.txt for details.
+ */
+
+package com.metacase.graphbrowser;
+
+import java.rmi.RemoteException;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.axis.AxisFault;
+
+import com.metacase.API.*;
+import com.metacase.objects.Graph;
+
+/**
+ * Batch facade that creates Graphs for many MEOops at once. The type, name and time stamp
+ * of every MEOop are asked from MetaEdit+ in parallel, and then the type name of each
+ * graph type only once, so a batch of graphs of a few types takes little more than two
+ * calls per graph. The number of calls made at the same time is limited by the given
+ * request permits, so the calls share a small number of connections. The calls are made
+ * by threads of one pool for the resolver, which is shut down with shutdown().
+ * <p>
+ * The number of calls and the time taken are recorded for each batch.
+ */
+public class GraphResolver {
+
+	private MetaEditAPIPortType port;
+	private int threads;
+	private Semaphore requestPermits;
+	private boolean fetchTimeStamps;
+	private ThreadPoolExecutor pool;
+	private volatile boolean timeStampsSupported = true;
+	private volatile Batch lastBatch;
+	private AtomicInteger batchCount = new AtomicInteger();
+	private AtomicInteger totalCalls = new AtomicInteger();
+	private AtomicLong totalMillis = new AtomicLong();
+
+	/**
+	 * Figures of one resolved batch.
+	 */
+	public static class Batch {
+		private int size;
+		private AtomicInteger typeCalls = new AtomicInteger();
+		private AtomicInteger typeNameCalls = new AtomicInteger();
+		private AtomicInteger nameCalls = new AtomicInteger();
+		private AtomicInteger timeStampCalls = new AtomicInteger();
+		private long millis;
+
+		Batch(int size) {
+			this.size = size;
+		}
+
+		/**
+		 * @return number of MEOops in the batch.
+		 */
+		public int getSize() {
+			return size;
+		}
+
+		/**
+		 * @return number of API calls made for the batch.
+		 */
+		public int getCalls() {
+			return typeCalls.get() + typeNameCalls.get() + nameCalls.get() + timeStampCalls.get();
+		}
+
+		/**
+		 * @return number of type name calls; one for each graph type not known before the batch.
+		 */
+		public int getTypeNameCalls() {
+			return typeNameCalls.get();
+		}
+
+		/**
+		 * @return time taken by the batch in milliseconds.
+		 */
+		public long getMillis() {
+			return millis;
+		}
+
+		public String toString() {
+			return size + " graphs: " + typeCalls + " type, " + typeNameCalls + " type name, "
+				+ nameCalls + " name and " + timeStampCalls + " time stamp calls in " + millis + " ms";
+		}
+	}
+
+	/**
+	 * Constructor.
+	 * @param port Port for API calls.
+	 * @param threads number of threads making the calls.
+	 * @param requestPermits permits limiting the number of calls made at the same time.
+	 */
+	public GraphResolver(MetaEditAPIPortType port, int threads, Semaphore requestPermits) {
+		this.port = port;
+		this.threads = Math.max(1, threads);
+		this.requestPermits = requestPermits;
+	}
+
+	/**
+	 * Constructor.
+	 * @param port Port for API calls.
+	 * @param threads number of threads making the calls.
+	 * @param maxRequestsInFlight maximum number of API requests made at the same time.
+	 */
+	public GraphResolver(MetaEditAPIPortType port, int threads, int maxRequestsInFlight) {
+		this(port, threads, new Semaphore(Math.max(1, maxRequestsInFlight), true));
+	}
+
+	/**
+	 * Sets whether the time stamps of the graphs are fetched too.
+	 * @param fetchTimeStamps true to fetch the time stamps.
+	 */
+	public void setFetchTimeStamps(boolean fetchTimeStamps) {
+		this.fetchTimeStamps = fetchTimeStamps;
+	}
+
+	/**
+	 * Creates or updates the Graphs for the MEOops.
+	 * @param meOops MEOops to resolve.
+	 * @return Graphs in the same order as the MEOops, with null for graphs that could not be fetched.
+	 */
+	public Graph[] resolve(MEOop[] meOops) {
+		return resolve(meOops, null);
+	}
+
+	/**
+	 * Creates or updates the Graphs for the MEOops.
+	 * @param meOops MEOops to resolve.
+	 * @param knownTimeStamps time stamps already fetched for the MEOops, 0 for unknown; or null.
+	 * @return Graphs in the same order as the MEOops, with null for graphs that could not be fetched.
+	 */
+	public Graph[] resolve(final MEOop[] meOops, final long[] knownTimeStamps) {
+		long start = System.currentTimeMillis();
+		final Batch batch = new Batch(meOops.length);
+		final METype[] types = new METype[meOops.length];
+		final String[] names = new String[meOops.length];
+		final long[] timeStamps = new long[meOops.length];
+		Graph[] graphs = new Graph[meOops.length];
+		if (meOops.length == 0) return graphs;
+		ArrayList<Future<Object>> futures = new ArrayList<Future<Object>>();
+		try {
+			// Type, name and time stamp of every graph.
+			for (int i = 0; i < meOops.length; i++) {
+				final int index = i;
+				futures.add(submit(new Callable<Object>() {
+					public Object call() throws Exception {
+						batch.typeCalls.incrementAndGet();
+						return types[index] = withPermit(new Callable<METype>() {
+							public METype call() throws RemoteException {
+								return port.type(meOops[index]);
+							}
+						});
+					}
+				}));
+				futures.add(submit(new Callable<Object>() {
+					public Object call() throws Exception {
+						batch.nameCalls.incrementAndGet();
+						return names[index] = withPermit(new Callable<String>() {
+							public String call() throws RemoteException {
+								return port.userPrintString(meOops[index]);
+							}
+						});
+					}
+				}));
+				if (knownTimeStamps != null && knownTimeStamps[i] != 0) {
+					timeStamps[i] = knownTimeStamps[i];
+				} else if (fetchTimeStamps && timeStampsSupported) {
+					futures.add(submit(new Callable<Object>() {
+						public Object call() throws Exception {
+							batch.timeStampCalls.incrementAndGet();
+							return timeStamps[index] = timeStamp(meOops[index]);
+						}
+					}));
+				}
+			}
+			waitFor(futures);
+			if (Thread.currentThread().isInterrupted()) return graphs;
+
+			// Type names, once for each type that is not known yet.
+			HashMap<String, METype> unknownTypes = new HashMap<String, METype>();
+			for (METype type : types) {
+				if (type != null && Graph.getCachedTypeName(type.getName()) == null) {
+					unknownTypes.put(type.getName(), type);
+				}
+			}
+			futures.clear();
+			for (final METype type : unknownTypes.values()) {
+				futures.add(submit(new Callable<Object>() {
+					public Object call() throws Exception {
+						batch.typeNameCalls.incrementAndGet();
+						String typeName = withPermit(new Callable<String>() {
+							public String call() throws RemoteException {
+								return port.typeName(type);
+							}
+						});
+						Graph.cacheTypeName(type.getName(), typeName);
+						return typeName;
+					}
+				}));
+			}
+			waitFor(futures);
+
+			for (int i = 0; i < meOops.length; i++) {
+				if (types[i] == null || names[i] == null) continue;
+				String typeName = Graph.getCachedTypeName(types[i].getName());
+				if (typeName == null) continue;
+				graphs[i] = Graph.restore(names[i], types[i].getName(), typeName,
+						meOops[i].getAreaID(), meOops[i].getObjectID());
+				graphs[i].setTimeStamp(timeStamps[i]);
+			}
+		} finally {
+			cancel(futures);
+		}
+		batch.millis = System.currentTimeMillis() - start;
+		lastBatch = batch;
+		batchCount.incrementAndGet();
+		totalCalls.addAndGet(batch.getCalls());
+		totalMillis.addAndGet(batch.millis);
+		return graphs;
+	}
+
+	/**
+	 * Gets the time stamps of the MEOops in parallel.
+	 * @param meOops the MEOops.
+	 * @return time stamps in milliseconds, 0 where not available.
+	 */
+	public long[] timeStamps(final MEOop[] meOops) {
+		final long[] timeStamps = new long[meOops.length];
+		if (!timeStampsSupported || meOops.length == 0) return timeStamps;
+		ArrayList<Future<Object>> futures = new ArrayList<Future<Object>>();
+		try {
+			for (int i = 0; i < meOops.length; i++) {
+				final int index = i;
+				futures.add(submit(new Callable<Object>() {
+					public Object call() throws Exception {
+						return timeStamps[index] = timeStamp(meOops[index]);
+					}
+				}));
+			}
+			waitFor(futures);
+		} finally {
+			cancel(futures);
+		}
+		return timeStamps;
+	}
+
+	/**
+	 * Stops the threads making the calls when the calls already started are done.
+	 * A later resolve starts new threads.
+	 */
+	public synchronized void shutdown() {
+		if (pool != null) pool.shutdown();
+		pool = null;
+	}
+
+	/**
+	 * @return figures of the last resolved batch, or null if nothing has been resolved.
+	 */
+	public Batch getLastBatch() {
+		return lastBatch;
+	}
+
+	/**
+	 * @return number of batches resolved.
+	 */
+	public int getBatchCount() {
+		return batchCount.get();
+	}
+
+	/**
+	 * @return number of API calls made for all batches.
+	 */
+	public int getTotalCalls() {
+		return totalCalls.get();
+	}
+
+	/**
+	 * @return total time taken by all batches in milliseconds.
+	 */
+	public long getTotalMillis() {
+		return totalMillis.get();
+	}
+
+	/**
+	 * Gets the MetaEdit+ time stamp of a graph.
+	 * @return time in milliseconds, or 0 if time stamps are not available.
+	 */
+	private long timeStamp(final MEOop m) throws Exception {
+		if (!timeStampsSupported) return 0;
+		try {
+			Calendar c = withPermit(new Callable<Calendar>() {
+				public Calendar call() throws RemoteException {
+					return port.timeStamp(m);
+				}
+			});
+			return (c == null) ? 0 : c.getTimeInMillis();
+		} catch (RemoteException e) {
+			// Older MetaEdit+ versions: refresh everything. Other failures, such as a
+			// deleted graph or a timeout, only leave this time stamp unknown.
+			if (isNoSuchOperation(e)) timeStampsSupported = false;
+			else e.printStackTrace();
+			return 0;
+		}
+	}
+
+	/**
+	 * Tells whether a fault says that MetaEdit+ does not have the called operation.
+	 */
+	private static boolean isNoSuchOperation(RemoteException e) {
+		String message = (e instanceof AxisFault) ? ((AxisFault) e).getFaultString() : e.getMessage();
+		if (message == null) return false;
+		message = message.toLowerCase(Locale.ENGLISH);
+		return message.contains("no such operation") || message.contains("doesnotunderstand");
+	}
+
+	/**
+	 * Makes an API call holding a request permit.
+	 */
+	private <T> T withPermit(Callable<T> apiCall) throws Exception {
+		requestPermits.acquire();
+		try {
+			return apiCall.call();
+		} finally {
+			requestPermits.release();
+		}
+	}
+
+	/**
+	 * Waits for all the calls, printing the stack trace of the failed ones. Returns
+	 * with the interrupt status set if the thread is interrupted.
+	 */
+	private static void waitFor(ArrayList<Future<Object>> futures) {
+		for (Future<Object> f : futures) {
+			try {
+				f.get();
+			} catch (ExecutionException e) {
+				e.getCause().printStackTrace();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Cancels the calls not done yet, for example when the waiting thread is interrupted.
+	 */
+	private static void cancel(ArrayList<Future<Object>> futures) {
+		for (Future<Object> f : futures) {
+			f.cancel(true);
+		}
+	}
+
+	/**
+	 * Submits a call to the pool of the resolver, creating the pool first if needed.
+	 * Its threads end when they have been idle for a minute, so an unused resolver
+	 * does not keep them.
+	 */
+	private synchronized Future<Object> submit(Callable<Object> call) {
+		if (pool == null) {
+			pool = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(),
+				new ThreadFactory() {
+					public Thread newThread(Runnable r) {
+						Thread t = new Thread(r, "MetaEdit+ graph resolver");
+						t.setDaemon(true);
+						return t;
+					}
+				});
+			pool.allowCoreThreadTimeOut(true);
+		}
+		return pool.submit(call);
+	}
+}
@@ -0,0 +1,237 @@
+/*
+ * Copyright (c) 2011 MetaCase Consulting
+ * Released under the MIT license. See the file license.txt for details.
+ */
+
+package com.metacase.graphbrowser;
+
+import java.io.*;
+import java.util.*;
+
+import com.metacase.objects.Graph;
+
+/**
+ * Graph index snapshot that is saved to the workspace metadata area, so that the graph
+ * browser can show the graphs right away when it is opened, before MetaEdit+ has been asked
+ * for them. The snapshot is a compact binary file containing the name, type, type name,
+ * area and object ID, time stamp and the children of each graph, and the top level graphs.
+ * Type names are written once to a string table. The time stamps let the graphs restored
+ * from a snapshot be refreshed incrementally. Graphs loaded lazily are saved with the
+ * children fetched so far, and the rest are fetched when the graph is opened.
+ */
+public class GraphSnapshot {
+
+	private static final int MAGIC = 0x4D454749;
+	private static final int VERSION = 3;
+	private static final String FILE_NAME = "graphs.idx";
+
+	/**
+	 * Gets the snapshot file in the plugin state location.
+	 * @return the snapshot file, or null if the plugin is not running.
+	 */
+	public static File getFile() {
+		Activator plugin = Activator.getDefault();
+		if (plugin == null) return null;
+		return plugin.getStateLocation().append(FILE_NAME).toFile();
+	}
+
+	/**
+	 * Identifies the MetaEdit+ repository the graphs were read from. A snapshot
+	 * made from another repository or with other projects is not used.
+	 * @return string identifying the current repository settings.
+	 */
+	public static String currentSource() {
+		Settings s = Settings.getSettings();
+		StringBuilder sb = new StringBuilder();
+		sb.append(s.getHostname()).append(':').append(s.getPort()).append('/').append(s.getDatabase());
+		if (s.getProjects() != null) {
+			for (String project : s.getProjects()) {
+				sb.append(';').append(project);
+			}
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * Saves the graphs to the snapshot file. Errors are only printed, as the snapshot is
+	 * just a cache.
+	 * @param topLevelGraphs top level graphs as returned by GraphHandler.init.
+	 */
+	public static void save(Graph[] topLevelGraphs) {
+		File file = getFile();
+		if (file == null) return;
+		File temp = new File(file.getPath() + ".tmp");
+		try {
+			FileOutputStream out = new FileOutputStream(temp);
+			try {
+				out.write(toBytes(topLevelGraphs, currentSource()));
+			} finally {
+				out.close();
+			}
+			if (file.exists() && !file.delete()) {
+				throw new IOException("Could not replace " + file);
+			}
+			if (!temp.renameTo(file)) {
+				throw new IOException("Could not rename " + temp);
+			}
+		} catch (IOException e) {
+			e.printStackTrace();
+			temp.delete();
+		}
+	}
+
+	/**
+	 * Loads the graphs from the snapshot file. The graphs are created to the Graph cache
+	 * without any API calls.
+	 * @return top level graphs, or null if there is no usable snapshot.
+	 */
+	public static Graph[] load() {
+		File file = getFile();
+		if (file == null || !file.isFile()) return null;
+		try {
+			DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)));
+			try {
+				return read(in, currentSource());
+			} finally {
+				in.close();
+			}
+		} catch (IOException e) {
+			// Corrupt or old snapshot: just reload from MetaEdit+.
+			file.delete();
+			return null;
+		} catch (RuntimeException e) {
+			file.delete();
+			return null;
+		}
+	}
+
+	/**
+	 * Gets the contents of the graphs in the snapshot format, for checking if
+	 * the graphs have changed. Graphs are updated in place when they are refreshed,
+	 * so the fingerprint must be taken before the refresh.
+	 * @param topLevelGraphs top level graphs.
+	 * @return bytes that are equal for graphs with the same names, types and children.
+	 */
+	public static byte[] fingerprint(Graph[] topLevelGraphs) {
+		try {
+			return toBytes(topLevelGraphs, "");
+		} catch (IOException e) {
+			return new byte[0];
+		}
+	}
+
+	/**
+	 * Writes the graphs to byte array in the snapshot format.
+	 */
+	private static byte[] toBytes(Graph[] topLevelGraphs, String source) throws IOException {
+		// Number all the graphs reachable from the top level graphs.
+		ArrayList<Graph> graphs = new ArrayList<Graph>();
+		HashMap<Long, Integer> indexes = new HashMap<Long, Integer>();
+		ArrayDeque<Graph> stack = new ArrayDeque<Graph>();
+		for (int i = topLevelGraphs.length - 1; i >= 0; i--) {
+			stack.push(topLevelGraphs[i]);
+		}
+		while (!stack.isEmpty()) {
+			Graph g = stack.pop();
+			if (indexes.containsKey(g.getKey())) continue;
+			indexes.put(g.getKey(), graphs.size());
+			graphs.add(g);
+			Graph[] children = g.getChildren();
+			for (int i = children.length - 1; i >= 0; i--) {
+				stack.push(children[i]);
+			}
+		}
+		// Type and type names repeat a lot, so they go to a string table.
+		ArrayList<String> strings = new ArrayList<String>();
+		HashMap<String, Integer> stringIndexes = new HashMap<String, Integer>();
+		for (Graph g : graphs) {
+			addString(g.getType(), strings, stringIndexes);
+			addString(g.getTypeName(), strings, stringIndexes);
+		}
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(bytes);
+		out.writeInt(MAGIC);
+		out.writeInt(VERSION);
+		out.writeUTF(source);
+		out.writeInt(strings.size());
+		for (String s : strings) {
+			out.writeUTF(s);
+		}
+		out.writeInt(graphs.size());
+		for (Graph g : graphs) {
+			out.writeInt(g.getAreaID());
+			out.writeInt(g.getObjectID());
+			out.writeUTF(nonNull(g.getName()));
+			out.writeInt(stringIndexes.get(nonNull(g.getType())));
+			out.writeInt(stringIndexes.get(nonNull(g.getTypeName())));
+			out.writeBoolean(g.getIsChild());
+			out.writeLong(g.getTimeStamp());
+			out.writeBoolean(g.isChildrenLoaded());
+		}
+		for (Graph g : graphs) {
+			Graph[] children = g.getChildren();
+			out.writeInt(children.length);
+			for (Graph child : children) {
+				out.writeInt(indexes.get(child.getKey()));
+			}
+		}
+		out.writeInt(topLevelGraphs.length);
+		for (Graph g : topLevelGraphs) {
+			out.writeInt(indexes.get(g.getKey()));
+		}
+		out.flush();
+		return bytes.toByteArray();
+	}
+
+	/**
+	 * Reads the graphs from the snapshot format.
+	 * @return top level graphs, or null if the snapshot is for another source.
+	 */
+	private static Graph[] read(DataInputStream in, String source) throws IOException {
+		if (in.readInt() != MAGIC || in.readInt() != VERSION) return null;
+		if (!in.readUTF().equals(source)) return null;
+		String[] strings = new String[in.readInt()];
+		for (int i = 0; i < strings.length; i++) {
+			strings[i] = in.readUTF();
+		}
+		Graph[] graphs = new Graph[in.readInt()];
+		boolean[] childrenLoaded = new boolean[graphs.length];
+		for (int i = 0; i < graphs.length; i++) {
+			int areaID = in.readInt();
+			int objectID = in.readInt();
+			String name = in.readUTF();
+			String type = strings[in.readInt()];
+			String typeName = strings[in.readInt()];
+			graphs[i] = Graph.restore(name, type, typeName, areaID, objectID);
+			graphs[i].setIsChild(in.readBoolean());
+			graphs[i].setTimeStamp(in.readLong());
+			childrenLoaded[i] = in.readBoolean();
+		}
+		for (int g = 0; g < graphs.length; g++) {
+			Graph[] children = new Graph[in.readInt()];
+			for (int i = 0; i < children.length; i++) {
+				children[i] = graphs[in.readInt()];
+			}
+			graphs[g].setChildren(children);
+			if (!childrenLoaded[g]) graphs[g].invalidateChildren();
+		}
+		Graph[] topLevelGraphs = new Graph[in.readInt()];
+		for (int i = 0; i < topLevelGraphs.length; i++) {
+			topLevelGraphs[i] = graphs[in.readInt()];
+		}
+		return topLevelGraphs;
+	}
+
+	private static void addString(String s, ArrayList<String> strings, HashMap<String, Integer> stringIndexes) {
+		s = nonNull(s);
+		if (!stringIndexes.containsKey(s)) {
+			stringIndexes.put(s, strings.size());
+			strings.add(s);
+		}
+	}
+
+	private static String nonNull(String s) {
+		return s == null ? "" : s;
+	}
+}
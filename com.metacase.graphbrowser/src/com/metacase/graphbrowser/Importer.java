@@ -5,13 +5,11 @@
 
 package com.metacase.graphbrowser;
 
-import java.io.File;
+import java.io.*;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.eclipse.core.resources.*;
 import org.eclipse.core.runtime.*;
-import org.eclipse.debug.core.*;
 import org.eclipse.jdt.core.*;
-import org.eclipse.jdt.launching.*;
-import org.eclipse.debug.core.Launch;
 
 /**
  * Class that imports existing Eclipse project to workspace. The
@@ -20,6 +18,17 @@ import org.eclipse.debug.core.Launch;
  */
 public class Importer {
 	
+	/**
+	 * Directory under the MetaEdit+ working directory that holds the directories of
+	 * the generator runs.
+	 */
+	public static final String RUN_DIRECTORY_NAME = "plugin-runs";
+	// Prefix of the run directories kept because their files could not be moved.
+	private static final String KEPT_RUN_DIRECTORY_PREFIX = "kept-";
+	// Run directories older than this were left by runs that were stopped abnormally.
+	private static final long STALE_RUN_DIRECTORY_MS = 24 * 60 * 60 * 1000L;
+	private static final AtomicInteger runCounter = new AtomicInteger();
+	
 	/**
 	 * Imports eclipse project to workspace and opens it. If project already exists, refreshes the project.
 	 * Finally builds the project, and runs it if classToLaunch is not empty.
@@ -30,39 +39,73 @@ public class Importer {
 	 * 		  In case of null parameter try to launch class named after the project name.
 	 */	
 	public static void importAndExecute(String projectName, String classToLaunch) {
+	    importAndExecute(projectName, classToLaunch, new NullProgressMonitor());
+	}
+
+	/**
+	 * Imports, builds and runs the project as importAndExecute(String, String), reporting
+	 * the progress to a monitor. If the monitor is cancelled, stops before the next step.
+	 * 
+	 * @param projectName Name of the project that should be imported.
+	 * @param classToLaunch Name of the class that is launched, or empty to launch nothing.
+	 * @param progressMonitor Monitor for the progress, or null.
+	 */
+	public static void importAndExecute(String projectName, String classToLaunch, IProgressMonitor progressMonitor) {
+	    importAndExecute(projectName, classToLaunch, null, progressMonitor);
+	}
+
+	/**
+	 * Imports, builds and runs the project as importAndExecute(String, String, IProgressMonitor).
+	 * If the project is open, only the files the generator wrote are refreshed. The
+	 * project is built also when none of them changed, as an earlier build may have
+	 * failed or been cancelled after their changes were recorded.
+	 * 
+	 * @param projectName Name of the project that should be imported.
+	 * @param classToLaunch Name of the class that is launched, or empty to launch nothing.
+	 * @param generated The files the generator wrote, or null to refresh the whole project.
+	 * @param progressMonitor Monitor for the progress, or null.
+	 */
+	public static void importAndExecute(String projectName, String classToLaunch, GeneratedFiles generated, IProgressMonitor progressMonitor) {
 	    IProjectDescription description = null;
 	    IProject project = null;
-	    IProgressMonitor monitor = new NullProgressMonitor();
+	    SubMonitor monitor = SubMonitor.convert(progressMonitor, "Importing " + projectName, 100);
 	    IWorkspaceRoot root = ResourcesPlugin.getWorkspace().getRoot();
 	    try {
 	    	description = ResourcesPlugin.getWorkspace().loadProjectDescription(new Path(root.getLocation().toString() + "/" + projectName + "/.project"));
 	    	project = ResourcesPlugin.getWorkspace().getRoot().getProject(description.getName());
-	    	if (project.exists()) {
-	    		project.refreshLocal(IResource.DEPTH_INFINITE, monitor);
+	    	monitor.subTask("Refreshing " + projectName);
+	    	if (project.exists() && project.isOpen() && generated != null) {
+	    		generated.refresh(project, monitor.newChild(30));
+	    	} else if (project.exists()) {
+	    		project.refreshLocal(IResource.DEPTH_INFINITE, monitor.newChild(30));
 	    	} else {
-	    		project.create(description, monitor);
+	    		project.create(description, monitor.newChild(30));
 	    	}
-	    	project.open(IResource.PROJECT, monitor);
-	    	// Build the project.
-	    	project.build(IncrementalProjectBuilder.INCREMENTAL_BUILD, monitor);
+	    	project.open(IResource.PROJECT, monitor.newChild(10));
+	    	if (monitor.isCanceled()) return;
+	    	// Build the project. The incremental build compiles only the refreshed changes,
+	    	// and returns quickly if there are none.
+	    	monitor.setWorkRemaining(60);
+	    	monitor.subTask("Building " + projectName);
+	    	project.build(IncrementalProjectBuilder.INCREMENTAL_BUILD, monitor.newChild(50));
+	    	if (monitor.isCanceled()) return;
 	    	if (!classToLaunch.isEmpty()) {
+	    		monitor.subTask("Launching " + classToLaunch);
 	    		
 		    	// Cast project to IJavaProject and run it.
 		    	IJavaProject iproject = JavaCore.create(project);
-	
-		    	IVMInstall vm = JavaRuntime.getVMInstall(iproject);
-		    	if (vm == null) vm = JavaRuntime.getDefaultVMInstall();
-		    	IVMRunner vmr = vm.getVMRunner(ILaunchManager.RUN_MODE);
-		    	String[] cp = JavaRuntime.computeDefaultRuntimeClassPath(iproject);
-		    	VMRunnerConfiguration config = new VMRunnerConfiguration(classToLaunch, cp);
-		    	
-		    	ILaunch launch = new Launch(null, ILaunchManager.RUN_MODE, null);
-		    	vmr.run(config, launch, monitor);
+		    	ProgramLauncher.launch(iproject, classToLaunch, monitor.newChild(10));
 	    	}
 	    }
 	    catch (CoreException e) { 	
 	    	// MetaEdit+ doesn't generate Eclipse project every time.
-	    }	    
+	    }
+	    catch (OperationCanceledException e) {
+	    	// Cancelled from the Progress view.
+	    }
+	    finally {
+	    	if (progressMonitor != null) progressMonitor.done();
+	    }
 	}
 
 	/**
@@ -94,4 +137,126 @@ public class Importer {
 	public static void removeIniFile(File path) {
 	    path.delete();
 	}
+
+	/**
+	 * Creates a directory for one generator run under the MetaEdit+ working directory.
+	 * The run writes its plugin.ini file there and MetaEdit+ runs the generator with it
+	 * as the current directory, so that runs made at the same time do not read or
+	 * remove each other's files. Also removes the run directories left by runs that
+	 * were stopped abnormally.
+	 * 
+	 * @param path the MetaEdit+ working directory.
+	 * @return the created directory, or null if it could not be created.
+	 */
+	public static File createRunDirectory(String path) {
+	    File parent = new File(path, RUN_DIRECTORY_NAME);
+	    removeStaleRunDirectories(parent);
+	    for (int i = 0; i < 10; i++) {
+	    	// mkdirs fails if the directory exists, so the created directory is not shared.
+	    	File dir = new File(parent, "run-" + System.currentTimeMillis() + "-" + runCounter.incrementAndGet());
+	    	if (dir.mkdirs()) return dir;
+	    }
+	    return null;
+	}
+
+	/**
+	 * Ends a generator run: removes its plugin.ini file and moves the other files the
+	 * generator wrote to the run directory into the working directory, where they were
+	 * written before the runs had directories of their own, and removes the run directory.
+	 * A file that can not be renamed, for example to another file system, is copied.
+	 * If some files can not be moved, the run directory is kept with them, renamed so
+	 * that it is not removed as a stale run directory.
+	 * 
+	 * @param dir the directory created with createRunDirectory.
+	 * @param path the MetaEdit+ working directory.
+	 * @return null if all files were moved, otherwise the kept directory.
+	 */
+	public static File finishRunDirectory(File dir, String path) {
+	    removeIniFile(new File(dir, "plugin.ini"));
+	    if (moveFiles(dir, new File(path))) {
+	    	removeRunDirectory(dir);
+	    	return null;
+	    }
+	    File kept = new File(dir.getParentFile(), KEPT_RUN_DIRECTORY_PREFIX + dir.getName());
+	    return dir.renameTo(kept) ? kept : dir;
+	}
+
+	/**
+	 * Moves the files of a directory to another directory.
+	 * @return true if all files were moved.
+	 */
+	private static boolean moveFiles(File from, File to) {
+	    File[] files = from.listFiles();
+	    if (files == null) return true;
+	    boolean moved = true;
+	    for (File f : files) {
+	    	File target = new File(to, f.getName());
+	    	if (f.isDirectory() && (target.isDirectory() || target.mkdirs())) {
+	    		moved &= moveFiles(f, target);
+	    	} else if (f.isDirectory()) {
+	    		moved = false;
+	    	} else {
+	    		if (target.isFile()) target.delete();
+	    		if (!f.renameTo(target)) {
+	    			try {
+	    				copyFile(f, target);
+	    				f.delete();
+	    			} catch (IOException e) {
+	    				e.printStackTrace();
+	    				moved = false;
+	    			}
+	    		}
+	    	}
+	    }
+	    return moved;
+	}
+
+	private static void copyFile(File from, File to) throws IOException {
+	    InputStream in = new FileInputStream(from);
+	    try {
+	    	OutputStream out = new FileOutputStream(to);
+	    	try {
+	    		byte[] buffer = new byte[8192];
+	    		int n;
+	    		while ((n = in.read(buffer)) > 0) {
+	    			out.write(buffer, 0, n);
+	    		}
+	    	} finally {
+	    		out.close();
+	    	}
+	    } finally {
+	    	in.close();
+	    }
+	    to.setLastModified(from.lastModified());
+	}
+
+	/**
+	 * Removes a run directory and the files in it.
+	 * 
+	 * @param dir the directory created with createRunDirectory.
+	 */
+	public static void removeRunDirectory(File dir) {
+	    File[] files = dir.listFiles();
+	    if (files != null) {
+	    	for (File f : files) {
+	    		if (f.isDirectory()) {
+	    			removeRunDirectory(f);
+	    		} else {
+	    			f.delete();
+	    		}
+	    	}
+	    }
+	    dir.delete();
+	}
+
+	private static void removeStaleRunDirectories(File parent) {
+	    File[] dirs = parent.listFiles();
+	    if (dirs == null) return;
+	    long limit = System.currentTimeMillis() - STALE_RUN_DIRECTORY_MS;
+	    for (File dir : dirs) {
+	    	if (dir.isDirectory() && dir.getName().startsWith("run-") && dir.lastModified() < limit) {
+	    		removeRunDirectory(dir);
+	    	}
+	    }
+	}
 }
\ No newline at end of file
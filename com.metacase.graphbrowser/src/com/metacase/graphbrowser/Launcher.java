@@ -15,6 +15,10 @@ import java.util.ArrayList;
 import javax.xml.rpc.ServiceException;
 
 import org.apache.axis.AxisProperties;
+import org.apache.axis.SimpleTargetedChain;
+import org.apache.axis.configuration.SimpleProvider;
+import org.apache.axis.transport.http.HTTPSender;
+import org.apache.axis.transport.http.HTTPTransport;
 
 import com.metacase.API.*;
 
@@ -25,25 +29,77 @@ import com.metacase.API.*;
  */
 public class Launcher {
 	
-	private static MetaEditAPI service = new MetaEditAPILocator();
+	private static PooledHTTPSender sender;
+	private static MetaEditAPI service = apiService();
 	private static MetaEditAPIPortType port = apiPort();
 	private static boolean needStopAPI = false;
 	private static boolean isInitialized = false;
 
 	/**
-	 * Port initializer
+	 * Service initializer. Uses the connection pooling transport if keep-alive
+	 * connections are on in the settings, otherwise the default Axis transport.
+	 * When the API statistics record message sizes, the engine gets the handler
+	 * that measures them.
+	 * @return created MetaEditAPI instance
+	 */
+	private static MetaEditAPI apiService() {
+	    Settings s = getSettings();
+	    ApiStatistics.setLevel(s.getApiStatistics());
+	    boolean payloads = ApiStatistics.getLevel() == ApiStatistics.PAYLOADS;
+	    SimpleProvider config;
+	    if (s.isKeepAlive()) {
+		sender = new PooledHTTPSender(s.getConnectionPoolSize(), s.getConnectionIdleTimeout(), s.getRequestTimeout(),
+			SingleFlight.READ_ONLY);
+		config = sender.createConfiguration();
+	    } else if (payloads) {
+		config = new SimpleProvider();
+		config.deployTransport(HTTPTransport.DEFAULT_TRANSPORT_NAME, new SimpleTargetedChain(new HTTPSender()));
+	    } else {
+		return new MetaEditAPILocator();
+	    }
+	    if (payloads) config.setGlobalResponse(new ApiStatistics.PayloadHandler());
+	    return new MetaEditAPILocator(config);
+	}
+	
+	/**
+	 * Creates the service and port again, so that changed transport settings are used.
+	 */
+	public static synchronized void resetPort() {
+	    if (sender != null) sender.close();
+	    sender = null;
+	    service = apiService();
+	    port = apiPort();
+	}
+	
+	/**
+	 * Port initializer. The port records its calls in ApiStatistics, and shares
+	 * identical read-only calls made at the same time if singleFlight is on in the
+	 * settings; the shared calls are not recorded as calls, as they are not sent.
 	 * @return created MetaEditAPIPortType instance
 	 */
 	private static MetaEditAPIPortType apiPort() {
+	    return createPort(getSettings().getHostname(), getSettings().getPort());
+	}
+	
+	/**
+	 * Creates a port to the MetaEdit+ API at the given address, in the same way as
+	 * the port of getPort, for example for running generators in other MetaEdit+
+	 * sessions. 
+	 * @param hostname host of the MetaEdit+ API server.
+	 * @param portNumber port of the MetaEdit+ API server.
+	 * @return created MetaEditAPIPortType instance, or null if it could not be created.
+	 */
+	public static MetaEditAPIPortType createPort(String hostname, int portNumber) {
 	    java.net.URL address = null;
 	    try {
 			try {
-				address = new URL("http://"+ getSettings().getHostname() +
-					":"+ getSettings().getPort() +"/MetaEditAPI");
+				address = new URL("http://"+ hostname +
+					":"+ portNumber +"/MetaEditAPI");
 			} catch (MalformedURLException e) {
 			    e.printStackTrace();
 			}
-			return service.getMetaEditAPIPort(address);
+			MetaEditAPIPortType p = ApiStatistics.instrument(service.getMetaEditAPIPort(address));
+			return getSettings().isSingleFlight() ? SingleFlight.wrap(p) : p;
 	    } catch (ServiceException e) { 
 	    	e.printStackTrace();
 	    }
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2011 MetaCase Consulting
+ * Released under the MIT license. See the file license.txt for details.
+ */
+
+package com.metacase.graphbrowser;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+import com.metacase.API.MetaEditAPIPortType;
+
+/**
+ * Base of the port wrappers that do something around the calls of another port, such
+ * as counting or recording them. A subclass implements call, and gets the wrapping
+ * port with port(). The methods of Object are answered by the wrapper itself.
+ */
+abstract class PortDecorator implements InvocationHandler {
+
+	protected final MetaEditAPIPortType target;
+
+	/**
+	 * Constructor.
+	 * @param target the port making the calls.
+	 */
+	PortDecorator(MetaEditAPIPortType target) {
+		this.target = target;
+	}
+
+	/**
+	 * @return a port whose calls go to call.
+	 */
+	MetaEditAPIPortType port() {
+		return (MetaEditAPIPortType) Proxy.newProxyInstance(MetaEditAPIPortType.class.getClassLoader(),
+				new Class<?>[] { MetaEditAPIPortType.class }, this);
+	}
+
+	public final Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+		if (method.getDeclaringClass() == Object.class) return method.invoke(this, args);
+		return call(method, args);
+	}
+
+	/**
+	 * Handles a call of the port.
+	 * @param method the called operation.
+	 * @param args the arguments, or null.
+	 * @return the result of the operation.
+	 * @throws Throwable the exception of the operation.
+	 */
+	protected abstract Object call(Method method, Object[] args) throws Throwable;
+
+	/**
+	 * Makes the call with the target port, throwing its exception as the port does.
+	 */
+	protected Object invokeTarget(Method method, Object[] args) throws Throwable {
+		try {
+			return method.invoke(target, args);
+		} catch (InvocationTargetException e) {
+			throw e.getCause();
+		}
+	}
+}
@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) 2011 MetaCase Consulting
+ * Released under the MIT license. See the file license.txt for details.
+ */
+
+package com.metacase.graphbrowser;
+
+import java.io.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.debug.core.DebugPlugin;
+import org.eclipse.debug.core.ILaunch;
+import org.eclipse.debug.core.ILaunchManager;
+import org.eclipse.debug.core.Launch;
+import org.eclipse.debug.core.model.IProcess;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.launching.IVMInstall;
+import org.eclipse.jdt.launching.IVMRunner;
+import org.eclipse.jdt.launching.JavaRuntime;
+import org.eclipse.jdt.launching.VMRunnerConfiguration;
+
+/**
+ * Launches the main class of a generated project. The runtime class path of each project
+ * is kept until the .classpath file of the project or of a project it requires changes,
+ * or the project gets another JRE, as computing it is slow for large projects; the
+ * classpathCache setting turns this off.
+ * <p>
+ * With the warmJvm setting on, the main classes are run in one long-lived JVM with
+ * WarmRunner instead of starting a new JVM for every run. The JVM is shown in the
+ * Console view, where it can also be terminated; it is started again when needed, also
+ * after a program has ended it with System.exit.
+ */
+public class ProgramLauncher {
+
+	/**
+	 * A computed runtime class path and what it was computed from.
+	 */
+	private static class CachedClasspath {
+		final String stamp;
+		final String[] classpath;
+
+		CachedClasspath(String stamp, String[] classpath) {
+			this.stamp = stamp;
+			this.classpath = classpath;
+		}
+	}
+
+	private static final ConcurrentHashMap<String, CachedClasspath> classpaths = new ConcurrentHashMap<String, CachedClasspath>();
+	private static IProcess warmProcess;
+	private static String warmVM;
+
+	/**
+	 * Runs the main class of a project.
+	 * @param project the built project.
+	 * @param classToLaunch name of the main class.
+	 * @param monitor monitor for the progress, or null.
+	 * @throws CoreException if the program can not be started.
+	 */
+	public static void launch(IJavaProject project, String classToLaunch, IProgressMonitor monitor) throws CoreException {
+		IVMInstall vm = JavaRuntime.getVMInstall(project);
+		if (vm == null) vm = JavaRuntime.getDefaultVMInstall();
+		String[] cp = runtimeClasspath(project, vm);
+		if (Settings.getSettings().isWarmJvm()) {
+			try {
+				runWarm(vm, classToLaunch, cp, monitor);
+				return;
+			} catch (IOException e) {
+				// Run it in a JVM of its own instead.
+				log("Could not run " + classToLaunch + " in the warm JVM, running it in a new JVM", e);
+			}
+		}
+		IVMRunner vmr = vm.getVMRunner(ILaunchManager.RUN_MODE);
+		VMRunnerConfiguration config = new VMRunnerConfiguration(classToLaunch, cp);
+		ILaunch launch = new Launch(null, ILaunchManager.RUN_MODE, null);
+		vmr.run(config, launch, monitor);
+	}
+
+	/**
+	 * Gets the runtime class path of a project, from the cache if the class path
+	 * files have not changed.
+	 * @param project the project.
+	 * @param vm the JRE the program is run with.
+	 * @return the class path entries.
+	 * @throws CoreException if the class path can not be computed.
+	 */
+	public static String[] runtimeClasspath(IJavaProject project, IVMInstall vm) throws CoreException {
+		if (!Settings.getSettings().isClasspathCache()) return JavaRuntime.computeDefaultRuntimeClassPath(project);
+		String name = project.getElementName();
+		String stamp = stamp(project, vm);
+		CachedClasspath cached = classpaths.get(name);
+		if (cached != null && cached.stamp.equals(stamp)) return cached.classpath.clone();
+		String[] cp = JavaRuntime.computeDefaultRuntimeClassPath(project);
+		classpaths.put(name, new CachedClasspath(stamp, cp));
+		return cp.clone();
+	}
+
+	/**
+	 * Forgets the cached class paths.
+	 */
+	public static void clearClasspathCache() {
+		classpaths.clear();
+	}
+
+	/**
+	 * Identifies the class path files of a project and the projects it requires,
+	 * and the JRE.
+	 */
+	private static String stamp(IJavaProject project, IVMInstall vm) throws CoreException {
+		StringBuilder sb = new StringBuilder();
+		sb.append(vm.getId());
+		appendStamp(project.getProject(), sb);
+		for (String required : project.getRequiredProjectNames()) {
+			appendStamp(project.getProject().getWorkspace().getRoot().getProject(required), sb);
+		}
+		return sb.toString();
+	}
+
+	private static void appendStamp(IProject project, StringBuilder sb) {
+		IFile classpath = project.getFile(".classpath");
+		sb.append(';').append(project.getName()).append(':').append(classpath.getModificationStamp())
+			.append(':').append(classpath.getLocalTimeStamp());
+	}
+
+	/**
+	 * Runs a main class in the warm JVM, starting the JVM first if it is not running.
+	 */
+	private static synchronized void runWarm(IVMInstall vm, String classToLaunch, String[] cp,
+			IProgressMonitor monitor) throws CoreException, IOException {
+		if (warmProcess == null || warmProcess.isTerminated() || !vm.getId().equals(warmVM)) {
+			stopWarmJvm();
+			IVMRunner vmr = vm.getVMRunner(ILaunchManager.RUN_MODE);
+			VMRunnerConfiguration config = new VMRunnerConfiguration(WarmRunner.class.getName(),
+					new String[] { runnerDirectory().getPath() });
+			ILaunch launch = new Launch(null, ILaunchManager.RUN_MODE, null);
+			vmr.run(config, launch, monitor);
+			IProcess[] processes = launch.getProcesses();
+			if (processes.length == 0) throw new IOException("The warm JVM did not start");
+			DebugPlugin.getDefault().getLaunchManager().addLaunch(launch);
+			warmProcess = processes[0];
+			warmVM = vm.getId();
+		}
+		StringBuilder line = new StringBuilder(classToLaunch).append('\t');
+		for (int i = 0; i < cp.length; i++) {
+			if (i > 0) line.append(File.pathSeparatorChar);
+			line.append(cp[i]);
+		}
+		warmProcess.getStreamsProxy().write(line.append('\n').toString());
+	}
+
+	/**
+	 * Stops the warm JVM, if it is running.
+	 */
+	public static synchronized void stopWarmJvm() {
+		if (warmProcess != null && !warmProcess.isTerminated()) {
+			try {
+				warmProcess.terminate();
+			} catch (CoreException e) {
+				log("Could not stop the warm JVM", e);
+			}
+		}
+		warmProcess = null;
+		warmVM = null;
+	}
+
+	private static void log(String message, Exception e) {
+		Activator plugin = Activator.getDefault();
+		if (plugin == null) {
+			e.printStackTrace();
+			return;
+		}
+		plugin.getLog().log(new Status(IStatus.WARNING, Activator.PLUGIN_ID, message, e));
+	}
+
+	/**
+	 * Copies the WarmRunner class to the plugin state location, from where the warm JVM
+	 * can load it whether the plugin is a jar or a directory.
+	 * @return the class path directory of the runner.
+	 */
+	private static File runnerDirectory() throws IOException {
+		Activator plugin = Activator.getDefault();
+		if (plugin == null) throw new IOException("The plugin is not running");
+		File dir = plugin.getStateLocation().append("warm-runner").toFile();
+		String name = WarmRunner.class.getName().replace('.', '/') + ".class";
+		File classFile = new File(dir, name);
+		classFile.getParentFile().mkdirs();
+		InputStream in = WarmRunner.class.getClassLoader().getResourceAsStream(name);
+		if (in == null) throw new IOException("Could not find " + name);
+		try {
+			OutputStream out = new FileOutputStream(classFile);
+			try {
+				byte[] buffer = new byte[8192];
+				int n;
+				while ((n = in.read(buffer)) > 0) {
+					out.write(buffer, 0, n);
+				}
+			} finally {
+				out.close();
+			}
+		} finally {
+			in.close();
+		}
+		return dir;
+	}
+}
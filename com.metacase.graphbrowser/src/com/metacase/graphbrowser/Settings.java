@@ -32,6 +32,25 @@ public class Settings extends Observable {
 	private int port;
 	private boolean logging;
 	private MEVersion version;
+	private int loaderThreads = 4;
+	private int maxRequestsInFlight = 8;
+	private boolean incrementalRefresh = true;
+	private boolean lazyLoading = false;
+	private boolean keepAlive = true;
+	private int connectionPoolSize = 8;
+	private int connectionIdleTimeout = 30000;
+	private int requestTimeout = 0;
+	private int graphCacheSize = 0;
+	private boolean virtualTree = false;
+	private int apiStatistics = ApiStatistics.TIMES;
+	private boolean singleFlight = true;
+	private int generatorCacheTTL = 600;
+	private boolean generatorWarmUp = true;
+	private String generatorEndpoints = "";
+	private boolean targetedRefresh = true;
+	private boolean generatedFileIndex = true;
+	private boolean classpathCache = true;
+	private boolean warmJvm = false;
 	private boolean initialized;
 	private File merFile;
 	private static Settings singleton;
@@ -120,6 +139,127 @@ public class Settings extends Observable {
 	public boolean isLogging() {
 		return logging;
 	}
+	public void setLoaderThreads(int loaderThreads) {
+		this.loaderThreads = loaderThreads;
+	}
+	public int getLoaderThreads() {
+		return loaderThreads;
+	}
+	public void setMaxRequestsInFlight(int maxRequestsInFlight) {
+		this.maxRequestsInFlight = maxRequestsInFlight;
+	}
+	public int getMaxRequestsInFlight() {
+		return maxRequestsInFlight;
+	}
+	public void setIncrementalRefresh(boolean incrementalRefresh) {
+		this.incrementalRefresh = incrementalRefresh;
+	}
+	public boolean isIncrementalRefresh() {
+		return incrementalRefresh;
+	}
+	public void setLazyLoading(boolean lazyLoading) {
+		this.lazyLoading = lazyLoading;
+	}
+	public boolean isLazyLoading() {
+		return lazyLoading;
+	}
+	public void setKeepAlive(boolean keepAlive) {
+		this.keepAlive = keepAlive;
+	}
+	public boolean isKeepAlive() {
+		return keepAlive;
+	}
+	public void setConnectionPoolSize(int connectionPoolSize) {
+		this.connectionPoolSize = connectionPoolSize;
+	}
+	public int getConnectionPoolSize() {
+		return connectionPoolSize;
+	}
+	public void setConnectionIdleTimeout(int connectionIdleTimeout) {
+		this.connectionIdleTimeout = connectionIdleTimeout;
+	}
+	public int getConnectionIdleTimeout() {
+		return connectionIdleTimeout;
+	}
+	public void setRequestTimeout(int requestTimeout) {
+		this.requestTimeout = requestTimeout;
+	}
+	public int getRequestTimeout() {
+		return requestTimeout;
+	}
+	public void setGraphCacheSize(int graphCacheSize) {
+		this.graphCacheSize = graphCacheSize;
+	}
+	public int getGraphCacheSize() {
+		return graphCacheSize;
+	}
+	public void setVirtualTree(boolean virtualTree) {
+		this.virtualTree = virtualTree;
+	}
+	public boolean isVirtualTree() {
+		return virtualTree;
+	}
+	public void setApiStatistics(int apiStatistics) {
+		this.apiStatistics = apiStatistics;
+	}
+	public int getApiStatistics() {
+		return apiStatistics;
+	}
+	public void setSingleFlight(boolean singleFlight) {
+		this.singleFlight = singleFlight;
+	}
+	public boolean isSingleFlight() {
+		return singleFlight;
+	}
+	public void setGeneratorCacheTTL(int generatorCacheTTL) {
+		this.generatorCacheTTL = generatorCacheTTL;
+	}
+	public int getGeneratorCacheTTL() {
+		return generatorCacheTTL;
+	}
+	public void setGeneratorWarmUp(boolean generatorWarmUp) {
+		this.generatorWarmUp = generatorWarmUp;
+	}
+	public boolean isGeneratorWarmUp() {
+		return generatorWarmUp;
+	}
+	/**
+	 * @param generatorEndpoints MetaEdit+ API addresses for batch generator runs,
+	 * as hostname:port separated by semicolons; empty for the current connection only.
+	 */
+	public void setGeneratorEndpoints(String generatorEndpoints) {
+		this.generatorEndpoints = (generatorEndpoints == null) ? "" : generatorEndpoints.trim();
+	}
+	public String getGeneratorEndpoints() {
+		return generatorEndpoints;
+	}
+	public void setTargetedRefresh(boolean targetedRefresh) {
+		this.targetedRefresh = targetedRefresh;
+	}
+	public boolean isTargetedRefresh() {
+		return targetedRefresh;
+	}
+	public void setGeneratedFileIndex(boolean generatedFileIndex) {
+		this.generatedFileIndex = generatedFileIndex;
+	}
+	public boolean isGeneratedFileIndex() {
+		return generatedFileIndex;
+	}
+	public void setClasspathCache(boolean classpathCache) {
+		this.classpathCache = classpathCache;
+	}
+	public boolean isClasspathCache() {
+		return classpathCache;
+	}
+	/**
+	 * @param warmJvm true to run the generated programs in one long-lived JVM; see ProgramLauncher.
+	 */
+	public void setWarmJvm(boolean warmJvm) {
+		this.warmJvm = warmJvm;
+	}
+	public boolean isWarmJvm() {
+		return warmJvm;
+	}
 	public void setInitialized(boolean initialized) {
 		this.initialized = initialized;
 	}
@@ -188,6 +328,25 @@ public class Settings extends Observable {
 		writer.addSetting("hostname", this.getHostname());
 		writer.addSetting("port", String.valueOf(this.getPort()));
 		writer.addSetting("logging", String.valueOf(this.isLogging()));
+		writer.addSetting("loaderThreads", String.valueOf(this.getLoaderThreads()));
+		writer.addSetting("maxRequestsInFlight", String.valueOf(this.getMaxRequestsInFlight()));
+		writer.addSetting("incrementalRefresh", String.valueOf(this.isIncrementalRefresh()));
+		writer.addSetting("lazyLoading", String.valueOf(this.isLazyLoading()));
+		writer.addSetting("keepAlive", String.valueOf(this.isKeepAlive()));
+		writer.addSetting("connectionPoolSize", String.valueOf(this.getConnectionPoolSize()));
+		writer.addSetting("connectionIdleTimeout", String.valueOf(this.getConnectionIdleTimeout()));
+		writer.addSetting("requestTimeout", String.valueOf(this.getRequestTimeout()));
+		writer.addSetting("graphCacheSize", String.valueOf(this.getGraphCacheSize()));
+		writer.addSetting("virtualTree", String.valueOf(this.isVirtualTree()));
+		writer.addSetting("apiStatistics", String.valueOf(this.getApiStatistics()));
+		writer.addSetting("singleFlight", String.valueOf(this.isSingleFlight()));
+		writer.addSetting("generatorCacheTTL", String.valueOf(this.getGeneratorCacheTTL()));
+		writer.addSetting("generatorWarmUp", String.valueOf(this.isGeneratorWarmUp()));
+		writer.addSetting("generatorEndpoints", this.getGeneratorEndpoints());
+		writer.addSetting("targetedRefresh", String.valueOf(this.isTargetedRefresh()));
+		writer.addSetting("generatedFileIndex", String.valueOf(this.isGeneratedFileIndex()));
+		writer.addSetting("classpathCache", String.valueOf(this.isClasspathCache()));
+		writer.addSetting("warmJvm", String.valueOf(this.isWarmJvm()));
 		writer.saveSettings();
 	}
 	
@@ -208,6 +367,25 @@ public class Settings extends Observable {
 		this.setHostname(reader.getSetting("hostname"));
 		this.setPort(Integer.valueOf(reader.getSetting("port")));
 		this.setLogging(reader.getSetting("logging").equals("true"));
+		this.setLoaderThreads(readIntSetting(reader, "loaderThreads", this.getLoaderThreads()));
+		this.setMaxRequestsInFlight(readIntSetting(reader, "maxRequestsInFlight", this.getMaxRequestsInFlight()));
+		this.setIncrementalRefresh(readBooleanSetting(reader, "incrementalRefresh", this.isIncrementalRefresh()));
+		this.setLazyLoading(readBooleanSetting(reader, "lazyLoading", this.isLazyLoading()));
+		this.setKeepAlive(readBooleanSetting(reader, "keepAlive", this.isKeepAlive()));
+		this.setConnectionPoolSize(readIntSetting(reader, "connectionPoolSize", this.getConnectionPoolSize()));
+		this.setConnectionIdleTimeout(readIntSetting(reader, "connectionIdleTimeout", this.getConnectionIdleTimeout()));
+		this.setRequestTimeout(readIntSetting(reader, "requestTimeout", this.getRequestTimeout()));
+		this.setGraphCacheSize(readIntSetting(reader, "graphCacheSize", this.getGraphCacheSize()));
+		this.setVirtualTree(readBooleanSetting(reader, "virtualTree", this.isVirtualTree()));
+		this.setApiStatistics(readIntSetting(reader, "apiStatistics", this.getApiStatistics()));
+		this.setSingleFlight(readBooleanSetting(reader, "singleFlight", this.isSingleFlight()));
+		this.setGeneratorCacheTTL(readIntSetting(reader, "generatorCacheTTL", this.getGeneratorCacheTTL()));
+		this.setGeneratorWarmUp(readBooleanSetting(reader, "generatorWarmUp", this.isGeneratorWarmUp()));
+		this.setGeneratorEndpoints(reader.getSetting("generatorEndpoints"));
+		this.setTargetedRefresh(readBooleanSetting(reader, "targetedRefresh", this.isTargetedRefresh()));
+		this.setGeneratedFileIndex(readBooleanSetting(reader, "generatedFileIndex", this.isGeneratedFileIndex()));
+		this.setClasspathCache(readBooleanSetting(reader, "classpathCache", this.isClasspathCache()));
+		this.setWarmJvm(readBooleanSetting(reader, "warmJvm", this.isWarmJvm()));
 		this.setVersion(new MEVersion());
 		if(this.getPlatform().equals("Linux")) {
 			this.getVersion().setValuesFromLinuxPath(this.getProgramPath());
@@ -216,6 +394,38 @@ public class Settings extends Observable {
 		}
 	}
 	
+	/**
+	 * Reads an optional integer setting. Older configuration files do not
+	 * contain all the settings, so the default value is used for missing or
+	 * malformed values.
+	 * @param reader reader for the configuration file.
+	 * @param name name of the setting.
+	 * @param defaultValue value used if the setting can not be read.
+	 * @return the setting value.
+	 */
+	private int readIntSetting(IniHandler reader, String name, int defaultValue) {
+		String value = reader.getSetting(name);
+		if (value == null) return defaultValue;
+		try {
+			return Integer.parseInt(value.trim());
+		} catch (NumberFormatException e) {
+			return defaultValue;
+		}
+	}
+	
+	/**
+	 * Reads an optional boolean setting, using the default value if it is missing.
+	 * @param reader reader for the configuration file.
+	 * @param name name of the setting.
+	 * @param defaultValue value used if the setting is not in the file.
+	 * @return the setting value.
+	 */
+	private boolean readBooleanSetting(IniHandler reader, String name, boolean defaultValue) {
+		String value = reader.getSetting(name);
+		if (value == null) return defaultValue;
+		return value.trim().equals("true");
+	}
+	
 	/**
 	 * Creates new empty default.mer file.
 	 */
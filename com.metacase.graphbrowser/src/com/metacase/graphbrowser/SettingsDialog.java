@@ -35,14 +35,14 @@ public class SettingsDialog extends JDialog {
 	private static final long serialVersionUID = 1L;
 	private static JDialog dialog;
 	private JPanel panel;
-	Box programDirBox, workingDirBox, databaseBox, usernameBox, passwordBox, projectsBox, portNumberBox, buttonBox;
+	Box programDirBox, workingDirBox, databaseBox, usernameBox, passwordBox, projectsBox, portNumberBox, keepAliveBox, buttonBox;
 	JLabel headerLabel, programDirLabel, workingDirLabel, databaseLabel, usernameLabel, passwordLabel,
-	projectsLabel, hostnameLabel, loggingLabel, portLabel;
+	projectsLabel, hostnameLabel, loggingLabel, portLabel, keepAliveLabel;
 	JLabel programDirIconLabel, workingDirIconLabel, databaseIconLabel, usernameIconLabel, passwordIconLabel,
 	projectsIconLabel, hostnameIconLabel, portIconLabel;
 	JTextField programDirField, workingDirField, databaseField, usernameField, passwordField,
 	hostnameField, projectsField, portField;
-	JCheckBox loggingCheckBox;
+	JCheckBox loggingCheckBox, keepAliveCheckBox;
 	JButton programDirBrowseButton, workingDirBrowseButton, projectsSelectionDialogButton, saveButton, cancelButton;
 	Hashtable <JLabel, String []> tooltipTexts = new Hashtable<JLabel, String []>();
 	private File managerAbPath = new File("");
@@ -76,6 +76,7 @@ public class SettingsDialog extends JDialog {
 		// Box hostnameBox = Box.createHorizontalBox();
 		portNumberBox = Box.createHorizontalBox();
 		// Box loggingBox = Box.createHorizontalBox();
+		keepAliveBox = Box.createHorizontalBox();
 		buttonBox = Box.createHorizontalBox();		
 		
 		//Labels
@@ -88,6 +89,7 @@ public class SettingsDialog extends JDialog {
 		// hostnameLabel = createLabel("Hostaname: ");
 		portLabel = createLabel("Port: ");
 		// loggingLabel = createLabel("Logging: ");
+		keepAliveLabel = createLabel("Keep connections open: ");
 		
 		// Icon labels and tooltiptexts 
 		programDirIconLabel = createIconLabel();
@@ -127,6 +129,9 @@ public class SettingsDialog extends JDialog {
 		// hostnameField = createTextField();
 		portField = createTextField();
 		// loggingCheckBox = new JCheckBox();
+		keepAliveCheckBox = new JCheckBox();
+		keepAliveCheckBox.setSelected(true);
+		keepAliveCheckBox.setToolTipText("Reuse the connections to MetaEdit+ instead of opening one for each API call.");
 		
 		programDirField.addKeyListener(new KeyListener() {
 			public void keyTyped(KeyEvent e) { }
@@ -343,6 +348,9 @@ public class SettingsDialog extends JDialog {
 			portNumberBox.add(portField);
 			// loggingBox.add(loggingLabel);
 			// loggingBox.add(loggingCheckBox);
+			keepAliveBox.add(keepAliveLabel);
+			keepAliveBox.add(keepAliveCheckBox);
+			keepAliveBox.add(Box.createHorizontalGlue());
 			buttonBox.add(Box.createGlue());
 			buttonBox.add(saveButton);
 			buttonBox.add(cancelButton);
@@ -359,6 +367,7 @@ public class SettingsDialog extends JDialog {
 			// panel.add(hostnameBox);
 			panel.add(portNumberBox);
 			//panel.add(loggingBox);
+			panel.add(keepAliveBox);
 			panel.add(buttonBox);
 			
 			panel.setBorder(BorderFactory.createEmptyBorder(8, 8, 8, 8));
@@ -478,6 +487,7 @@ public class SettingsDialog extends JDialog {
 		// this.hostnameField.setText(this.settings.getHostname());
 		this.portField.setText(String.valueOf(this.settings.getPort()));
 		// this.loggingCheckBox.setSelected(this.settings.isLogging());
+		this.keepAliveCheckBox.setSelected(this.settings.isKeepAlive());
 		verifyAllFields();
 	}
    
@@ -526,7 +536,10 @@ public class SettingsDialog extends JDialog {
 	   // settings.setHostname(this.hostnameField.getText());
 	   settings.setPort(Integer.parseInt(this.portField.getText()));
 	   // settings.setLogging(this.loggingCheckBox.isSelected());
+	   boolean transportChanged = settings.isKeepAlive() != this.keepAliveCheckBox.isSelected();
+	   settings.setKeepAlive(this.keepAliveCheckBox.isSelected());
 	   settings.save();
+	   if (transportChanged) Launcher.resetPort();
 	}
    	
    	private void setProjectsToTextField(String[] projects) {
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2011 MetaCase Consulting
+ * Released under the MIT license. See the file license.txt for details.
+ */
+
+package com.metacase.graphbrowser;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.rmi.RemoteException;
+import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+
+import com.metacase.API.MetaEditAPIPortType;
+
+/**
+ * Shares identical read-only MetaEdit+ API calls made at the same time. The view,
+ * the dialogs and the loader threads can ask for the same type name, generator
+ * names or subgraphs at the same moment; the first call is sent to MetaEdit+ and
+ * the calls with the same operation and arguments made while it is in progress
+ * wait for it and get its result, or its exception. A call made after the first
+ * one has returned is sent again, so nothing is cached.
+ * <p>
+ * Only the operations in READ_ONLY are shared. All other calls, such as open,
+ * forGraphRun, setValueAt and delete, are always sent as they are.
+ */
+public class SingleFlight {
+
+	/**
+	 * Operations that only read from MetaEdit+.
+	 */
+	public static final Set<String> READ_ONLY = new HashSet<String>(Arrays.asList(
+		"allGoodInstances", "allSimilarInstances", "subTypeNamed", "findString", "instancesNamed",
+		"typeName", "type", "userPrintString", "valueAt", "allPropertiesValues", "allProperties",
+		"allPropertiesWrapped", "objectSet", "relationshipSet", "roleSet", "bindingSet",
+		"explodeGraphs", "decompGraphs", "subgraphs", "getExplodeGraphsForNP", "decompGraph",
+		"objsForObj", "objsForRel", "objsForRole", "relsForObj", "relsForRole", "rolesForObj",
+		"rolesForRel", "rolesForRole", "timeStamp", "generatorNames"));
+
+	/**
+	 * A call: the operation and its arguments.
+	 */
+	private static class Call {
+		private final String operation;
+		private final Object[] args;
+		private final int hash;
+
+		Call(String operation, Object[] args) {
+			this.operation = operation;
+			this.args = (args == null) ? new Object[0] : args;
+			this.hash = 31 * operation.hashCode() + Arrays.deepHashCode(this.args);
+		}
+
+		public boolean equals(Object o) {
+			if (!(o instanceof Call)) return false;
+			Call c = (Call) o;
+			return hash == c.hash && operation.equals(c.operation) && Arrays.deepEquals(args, c.args);
+		}
+
+		public int hashCode() {
+			return hash;
+		}
+	}
+
+	/**
+	 * Wraps a port so that its identical read-only calls made at the same time are sent once.
+	 * @param target the port making the calls.
+	 * @return the sharing port.
+	 */
+	public static MetaEditAPIPortType wrap(MetaEditAPIPortType target) {
+		if (target == null) return null;
+		final ConcurrentHashMap<Call, FutureTask<Object>> inFlight = new ConcurrentHashMap<Call, FutureTask<Object>>();
+		return new PortDecorator(target) {
+			protected Object call(final Method method, final Object[] args) throws Throwable {
+				if (!READ_ONLY.contains(method.getName())) return invokeTarget(method, args);
+				Call call = new Call(method.getName(), args);
+				FutureTask<Object> task = new FutureTask<Object>(new Callable<Object>() {
+					public Object call() throws Exception {
+						try {
+							return invokeTarget(method, args);
+						} catch (Exception e) {
+							throw e;
+						} catch (Throwable t) {
+							throw new InvocationTargetException(t);
+						}
+					}
+				});
+				FutureTask<Object> f = inFlight.putIfAbsent(call, task);
+				if (f == null) {
+					try {
+						task.run();
+					} finally {
+						inFlight.remove(call, task);
+					}
+					return result(task);
+				}
+				ApiStatistics.recordShared(method.getName());
+				return copy(result(f));
+			}
+		}.port();
+	}
+
+	/**
+	 * Gets the result of a call, throwing its exception as the port would.
+	 */
+	private static Object result(FutureTask<Object> f) throws Throwable {
+		try {
+			return f.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RemoteException("Interrupted while waiting for the same call in progress");
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof InvocationTargetException) cause = cause.getCause();
+			throw cause;
+		}
+	}
+
+	/**
+	 * Copies a returned array, so that a caller changing its result does not change
+	 * the results of the others. The elements are shared.
+	 */
+	private static Object copy(Object result) {
+		if (result == null || !result.getClass().isArray()) return result;
+		int length = Array.getLength(result);
+		Object copy = Array.newInstance(result.getClass().getComponentType(), length);
+		System.arraycopy(result, 0, copy, 0, length);
+		return copy;
+	}
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2011 MetaCase Consulting
+ * Released under the MIT license. See the file license.txt for details.
+ */
+
+package com.metacase.graphbrowser;
+
+import java.io.*;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+
+/**
+ * Runs the main classes of generated programs in one long-lived JVM, so that a new JVM
+ * does not have to start for every run. ProgramLauncher starts this class when the warmJvm
+ * setting is on, and writes a line for each run to its standard input: the main class and
+ * the class path separated by a tab. Each main class is run in a thread of its own with a
+ * new class loader, so the classes compiled since the previous run are used and the runs
+ * do not share static state.
+ * <p>
+ * The programs get an empty standard input, and the runs are read from the original one,
+ * which only this class refers to, so a program reading System.in can not take the lines
+ * meant for the runner. Their output goes to the Console view of the warm JVM.
+ * <p>
+ * The programs share the JVM, so a program calling System.exit ends the warm JVM and the
+ * other programs running in it. ProgramLauncher starts a new warm JVM for the next run.
+ * Programs that end with System.exit, or rely on it to stop their other threads, are
+ * better run with the warmJvm setting off.
+ * <p>
+ * This class is run outside Eclipse, so it must only use the JDK, and it has no inner
+ * classes, as ProgramLauncher copies just this class file for the JVM.
+ */
+public class WarmRunner implements Runnable {
+
+	private final String mainClass;
+	private final ClassLoader loader;
+
+	private WarmRunner(String mainClass, ClassLoader loader) {
+		this.mainClass = mainClass;
+		this.loader = loader;
+	}
+
+	/**
+	 * Reads the runs from the standard input until it is closed.
+	 * @param args not used.
+	 * @throws IOException if the standard input can not be read.
+	 */
+	public static void main(String[] args) throws IOException {
+		BufferedReader in = new BufferedReader(new InputStreamReader(System.in, "UTF-8"));
+		System.setIn(new ByteArrayInputStream(new byte[0]));
+		String line;
+		while ((line = in.readLine()) != null) {
+			int tab = line.indexOf('\t');
+			if (tab < 0) continue;
+			String[] entries = line.substring(tab + 1).split(File.pathSeparator);
+			URL[] urls = new URL[entries.length];
+			for (int i = 0; i < entries.length; i++) {
+				urls[i] = new File(entries[i]).toURI().toURL();
+			}
+			// The parent is above the class path of this runner, so the program only sees its own classes.
+			ClassLoader loader = new URLClassLoader(urls, ClassLoader.getSystemClassLoader().getParent());
+			String mainClass = line.substring(0, tab);
+			Thread t = new Thread(new WarmRunner(mainClass, loader), "main " + mainClass);
+			t.setContextClassLoader(loader);
+			t.start();
+		}
+		// Eclipse has closed the input.
+		System.exit(0);
+	}
+
+	public void run() {
+		try {
+			Method main = loader.loadClass(mainClass).getMethod("main", String[].class);
+			main.invoke(null, new Object[] { new String[0] });
+		} catch (InvocationTargetException e) {
+			e.getCause().printStackTrace();
+		} catch (Exception e) {
+			e.printStackTrace();
+		}
+	}
+}
@@ -8,11 +8,14 @@ package com.metacase.graphbrowser.views;
 import java.awt.Dimension;
 import java.awt.event.WindowEvent;
 import java.awt.event.WindowListener;
+import java.io.File;
+import java.io.IOException;
 import java.lang.reflect.Array;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.rmi.RemoteException;
 import java.util.*;
+import java.util.List;
 import javax.swing.JComponent;
 import javax.swing.JFrame;
 
@@ -20,7 +23,6 @@ import org.eclipse.swt.layout.GridData;
 import org.eclipse.swt.layout.GridLayout;
 import org.eclipse.swt.widgets.*;
 import org.eclipse.ui.part.*;
-import org.eclipse.swt.custom.BusyIndicator;
 import org.eclipse.swt.custom.StackLayout;
 import org.eclipse.swt.graphics.Image;
 import org.eclipse.jface.resource.ImageDescriptor;
@@ -30,7 +32,12 @@ import org.eclipse.ui.*;
 import org.eclipse.swt.widgets.Menu;
 import org.eclipse.swt.SWT;
 import org.eclipse.core.runtime.IAdaptable;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Platform;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.ISchedulingRule;
+import org.eclipse.core.runtime.jobs.Job;
 import com.metacase.API.*;
 import com.metacase.graphbrowser.*;
 import com.metacase.objects.*;
@@ -56,6 +63,19 @@ public class GraphView extends ViewPart implements Observer {
 	 */
 	public static final String ID = "com.metacase.graphbrowser.views.GraphView";
 
+	/**
+	 * Rule that keeps the jobs loading the graphs from running at the same time,
+	 * as they share the Graph caches.
+	 */
+	private static final ISchedulingRule LOAD_RULE = new ISchedulingRule() {
+		public boolean contains(ISchedulingRule rule) {
+			return rule == this;
+		}
+		public boolean isConflicting(ISchedulingRule rule) {
+			return rule == this;
+		}
+	};
+
 	private TreeViewer treeViewer;
 	private Composite errorView;
 	private Composite container;
@@ -63,37 +83,55 @@ public class GraphView extends ViewPart implements Observer {
 	private static Action actionOpenInMetaEdit;
 	private static Action actionRunAutobuild;
 	private static Action actionCallGenerator;
+	private static Action actionRunGeneratorOnSelection;
+	private static Action actionRunGeneratorOnType;
 	private static Action actionUpdateGraphList;
 	private static Action actionStartMetaEdit;
 	private static Action actionOpenSettings;
 	private static Action actionOpenCreateGraphDialog;
 	private static Action actionOpenEditPropertiesDialog;
 	private static Action actionToggleGraphTypeText;
+	private static Action actionSaveApiStatistics;
+	private static Action actionResetApiStatistics;
+	private static Action actionCancelGenerators;
 	private static Action doubleClickAction;
 	private ViewContentProvider viewContentProvider;
+	private boolean virtual;
 	private static boolean isGraphTypeText;
 	public Graph[] graphs;
 	 
+	/**
+	 * A tree item: a graph on a path from the top of the tree. Each graph is kept once
+	 * in the Graph cache, and a tree object only refers to it and to its parent, so a
+	 * subgraph shown under many parents does not copy its subtree. The children are
+	 * created from the subgraphs of the graph when they are asked for.
+	 */
 	class TreeObject implements IAdaptable {
 		private Graph graph;
 		private TreeObject parent;
-		private ArrayList<TreeObject> children;
+		private List<Graph> childGraphs;
+		private boolean fetching;
 		
-		public TreeObject(Graph _graph) {
-		    this.graph = _graph;
-		    this.children = new ArrayList<TreeObject>();
-		}
+		/**
+		 * Constructor for the invisible root, whose children are added with addGraphs.
+		 */
 		public TreeObject() {
 		    this.graph = null;
-		    this.children = new ArrayList<TreeObject>();
+		    this.childGraphs = new ArrayList<Graph>();
+		}
+		/**
+		 * Constructor.
+		 * @param parent the parent tree object.
+		 * @param _graph the graph.
+		 */
+		public TreeObject(TreeObject parent, Graph _graph) {
+		    this.parent = parent;
+		    this.graph = _graph;
 		}
 		public String getName() {
 		    if (this.getGraph() == null) return "";
 		    return this.getGraph().toString();
 		}
-		public void setParent(TreeObject parent) {
-		    this.parent = parent;
-		}
 		public TreeObject getParent() {
 		    return parent;
 		}
@@ -104,59 +142,189 @@ public class GraphView extends ViewPart implements Observer {
 			String s = isGraphTypeText ? getName() + ": " + getGraph().getTypeName() : getName();
 		    return s;
 		}
-		public Object getAdapter(@SuppressWarnings("rawtypes") Class key) {
+		public <T> T getAdapter(Class<T> key) {
 		    return null;
 		}
-		public void addChild(TreeObject child) {
-		    children.add(child);
-		    child.setParent(this);
+		/**
+		 * Tree objects are equal if they show the same graph on the same path, as
+		 * the tree objects for the children are created each time they are asked for.
+		 */
+		public boolean equals(Object o) {
+		    if (this == o) return true;
+		    if (!(o instanceof TreeObject)) return false;
+		    TreeObject to = (TreeObject) o;
+		    if (graph != to.graph) return false;
+		    return (parent == null) ? to.parent == null : parent.equals(to.parent);
 		}
-		public void removeChild(TreeObject child) {
-		    children.remove(child);
-		    child.setParent(null);
+		public int hashCode() {
+		    int h = (graph == null) ? 0 : (int) (graph.getKey() ^ (graph.getKey() >>> 32));
+		    return (parent == null) ? h : 31 * parent.hashCode() + h;
 		}
 		public TreeObject [] getChildren() {
-		    return children.toArray(new TreeObject[children.size()]);
+		    List<Graph> graphs = childGraphs();
+		    if (graphs == null) return new TreeObject[] { new PendingObject(this) };
+		    TreeObject[] children = new TreeObject[graphs.size()];
+		    for (int i = 0; i < children.length; i++) {
+			children[i] = new TreeObject(this, graphs.get(i));
+		    }
+		    return children;
 		}
 		public boolean hasChildren() {
-		    return children.size()>0;
-		}
-		
-		public void populate(Graph[] graphs, ArrayList<Graph> stack) {
-			if (!stack.contains(this.getGraph())) {
-				stack.add(this.getGraph());
-				for (Graph g : graphs) {
-					TreeObject to = new TreeObject(g);
-					this.addChild(to);
-					Graph[] children = g.getChildren();
-    			    if (children != null && children.length > 0) {
-    			    	Arrays.sort(children, Graph.GraphComparator);
-    			    	to.populate(children, stack);
-    			    }
-				}
-				stack.remove(stack.size()-1);
+		    if (childGraphs != null) return !childGraphs.isEmpty();
+		    if (parent != null && parent.isOnPath(graph)) return false;
+		    // Not opened yet: a graph whose subgraphs are not fetched may have some.
+		    return !graph.isChildrenLoaded() || graph.getChildren().length > 0;
+		}
+		
+		/**
+		 * Gets the number of children without creating their tree objects. Used by
+		 * the virtual tree.
+		 * @return number of children.
+		 */
+		public int getChildCount() {
+		    List<Graph> graphs = childGraphs();
+		    return (graphs == null) ? 1 : graphs.size();
+		}
+		
+		/**
+		 * Gets a child without creating the tree objects of the other children.
+		 * Used by the virtual tree.
+		 * @param index index of the child.
+		 * @return the child.
+		 */
+		public TreeObject getChild(int index) {
+		    List<Graph> graphs = childGraphs();
+		    if (graphs == null) return new PendingObject(this);
+		    return new TreeObject(this, graphs.get(index));
+		}
+		
+		/**
+		 * Adds graphs to the end of the children of the invisible root.
+		 * @param graphs the graphs to add.
+		 * @return tree objects for the added graphs.
+		 */
+		public TreeObject[] addGraphs(Graph[] graphs) {
+		    childGraphs.addAll(Arrays.asList(graphs));
+		    TreeObject[] added = new TreeObject[graphs.length];
+		    for (int i = 0; i < graphs.length; i++) {
+			added[i] = new TreeObject(this, graphs[i]);
+		    }
+		    return added;
+		}
+		
+		/**
+		 * Gets the subgraphs shown as the children. The graph's own sorted list is used
+		 * as is, so it is not sorted again for every place the graph is shown. A graph that
+		 * is already on the path from the root gets no children, so that a graph that is
+		 * its own subgraph is not opened forever. The subgraphs of the children are
+		 * prefetched in the background.
+		 * @return the subgraphs, or null while they are fetched from MetaEdit+ in the
+		 * background; the tree object is refreshed when they are there.
+		 */
+		private List<Graph> childGraphs() {
+		    if (childGraphs == null) {
+			if (parent != null && parent.isOnPath(graph)) {
+			    childGraphs = Collections.emptyList();
+			    return childGraphs;
+			}
+			if (!graph.isChildrenLoaded()) {
+			    fetchChildren();
+			    return null;
+			}
+			List<Graph> graphs = graph.getSortedChildren();
+			ArrayList<Graph> notLoaded = new ArrayList<Graph>();
+			for (Graph g : graphs) {
+			    if (!g.isChildrenLoaded() && !isOnPath(g)) notLoaded.add(g);
+			}
+			if (!notLoaded.isEmpty()) {
+			    new PrefetchJob(this, notLoaded.toArray(new Graph[notLoaded.size()])).schedule();
+			}
+			childGraphs = graphs;
+		    }
+		    return childGraphs;
+		}
+		
+		private void fetchChildren() {
+		    // Not in the UI thread, as MetaEdit+ may take its time.
+		    if (!fetching) {
+			fetching = true;
+			new ChildrenJob(this).schedule();
+		    }
+		}
+		
+		/**
+		 * Called in the UI thread when the job started by fetchChildren is done. If the
+		 * fetch failed, the previously known subgraphs are shown.
+		 * @param subgraphs the subgraphs the job got.
+		 */
+		void childrenFetched(Graph[] subgraphs) {
+		    fetching = false;
+		    if (graph.isChildrenLoaded()) return;
+		    Graph[] sorted = subgraphs.clone();
+		    Arrays.sort(sorted, Graph.GraphComparator);
+		    childGraphs = Collections.unmodifiableList(Arrays.asList(sorted));
+		}
+		
+		private boolean isOnPath(Graph g) {
+		    for (TreeObject to = this; to != null; to = to.getParent()) {
+			if (to.getGraph() == g) return true;
 		    }
+		    return false;
+		}
+	}
+	
+	/**
+	 * The item shown as the only child of a tree object while its subgraphs are fetched.
+	 */
+	class PendingObject extends TreeObject {
+		public PendingObject(TreeObject parent) {
+		    super(parent, null);
+		}
+		public String toString() {
+		    return "Pending...";
+		}
+		public TreeObject [] getChildren() {
+		    return new TreeObject[0];
+		}
+		public boolean hasChildren() {
+		    return false;
+		}
+		public int getChildCount() {
+		    return 0;
 		}
 	}
 
 	class ViewContentProvider implements IStructuredContentProvider, ITreeContentProvider {
 		private TreeObject invisibleRoot; 
+		private SnapshotValidationJob validationJob;
+		private LoadJob loadJob;
 
 		public void inputChanged(Viewer v, Object oldInput, Object newInput) {
 		    v.refresh();
 		}
 		public void dispose() {
+		    cancelValidation();
+		    if (loadJob != null) loadJob.cancel();
+		    loadJob = null;
 		}
 		public Object[] getElements(Object parent) {
 		    if (parent.equals(getViewSite())) {
-			if (invisibleRoot==null)
-			    try {
-				initialize();
-			    } catch (Exception e) { }
-			return getChildren(invisibleRoot);
+			return getChildren(getRoot());
 		    }
 		    return getChildren(parent);
 		}
+		/**
+		 * Gets the invisible root of the tree, creating the tree from the snapshot
+		 * or starting to load the graphs the first time it is asked for.
+		 * @return the root.
+		 */
+		protected TreeObject getRoot() {
+		    if (invisibleRoot==null)
+			try {
+			    if (!restoreSnapshot()) initialize();
+			} catch (Exception e) { }
+		    return invisibleRoot;
+		}
 		public Object getParent(Object child) {
 		    if (child instanceof TreeObject) {
 			return ((TreeObject)child).getParent();
@@ -176,19 +344,276 @@ public class GraphView extends ViewPart implements Observer {
 		
 		/**
 		 * Initializes the tree by first calling the graphs from MetaEdit+ and
-		 * creating a tree from the graph set. Shows busy cursor while the work is being done.
+		 * creating a tree from the graph set. The graphs are loaded in a background job
+		 * and added to the tree as they arrive. The loaded graphs are saved as a snapshot
+		 * for the next time the view is opened.
 		 */
 		public void initialize() {
-		    Runnable init = new Runnable() {
-				public void run() {
-				    invisibleRoot = new TreeObject();
-				    Graph.resetCaches();
-				    graphs = GraphHandler.init();
-				    invisibleRoot.populate(graphs, new ArrayList<Graph>());
-				}
-		    };
-		    BusyIndicator.showWhile(getSite().getShell().getDisplay(), init);
-		}		
+		    load(false);
+		}
+		
+		/**
+		 * Updates the tree. If incremental refresh is on and the graphs have been loaded,
+		 * only the changed graphs are fetched from MetaEdit+ and the tree is updated when
+		 * they are done; otherwise the tree is emptied and all graphs are loaded.
+		 */
+		public void update() {
+		    load(graphs != null && Settings.getSettings().isIncrementalRefresh());
+		}
+		
+		private void load(boolean incremental) {
+		    cancelValidation();
+		    // The generators may have been changed in MetaEdit+ too.
+		    GeneratorCache.invalidate();
+		    if (loadJob != null) loadJob.cancel();
+		    if (!incremental) invisibleRoot = new TreeObject();
+		    loadJob = new LoadJob(incremental);
+		    loadJob.schedule();
+		}
+		
+		/**
+		 * Adds a batch of graphs loaded by the job to the top of the tree. Until the
+		 * load is done, every graph is shown at the top level.
+		 */
+		private void addGraphs(LoadJob job, Graph[] batch) {
+		    if (job != loadJob || treeViewer.getControl().isDisposed()) return;
+		    TreeObject[] added = invisibleRoot.addGraphs(batch);
+		    if (virtual) {
+			treeViewer.setChildCount(treeViewer.getInput(), invisibleRoot.getChildCount());
+		    } else {
+			treeViewer.add(treeViewer.getInput(), (Object[]) added);
+		    }
+		}
+		
+		/**
+		 * Replaces the tree with the graphs loaded by the job. A cancelled load shows
+		 * the graphs loaded so far, and their remaining subgraphs are fetched when
+		 * they are opened.
+		 */
+		private void loadFinished(LoadJob job, Graph[] loaded) {
+		    if (job != loadJob || treeViewer.getControl().isDisposed()) return;
+		    loadJob = null;
+		    graphs = loaded;
+		    createTree();
+		    treeViewer.refresh();
+		    expandTree();
+		    setView();
+		    getViewSite().getActionBars().getStatusLineManager().setMessage(GraphHandler.getLastLoadReport());
+		    GeneratorCache.warmUp(Graph.cachedGraphs());
+		}
+		
+		/**
+		 * Creates the root of the tree for the graphs. The tree objects below the top
+		 * level are created when the tree is opened, and the subgraphs not loaded yet
+		 * are then fetched.
+		 */
+		private void createTree() {
+		    invisibleRoot = new TreeObject();
+		    invisibleRoot.addGraphs(graphs);
+		}
+		
+		/**
+		 * Creates the tree from the snapshot saved when the graphs were last loaded,
+		 * and starts checking the snapshot against MetaEdit+ in the background.
+		 * @return true if a snapshot was found, false if the graphs must be loaded from MetaEdit+.
+		 */
+		private boolean restoreSnapshot() {
+		    Graph[] snapshot = GraphSnapshot.load();
+		    if (snapshot == null) return false;
+		    graphs = snapshot;
+		    createTree();
+		    validationJob = new SnapshotValidationJob(snapshot);
+		    validationJob.schedule();
+		    return true;
+		}
+		
+		/**
+		 * Cancels the snapshot check without waiting for it in the UI thread. It does not
+		 * reset the graph caches under a new load, as the load job has the same scheduling
+		 * rule and only starts when the check has stopped.
+		 */
+		private void cancelValidation() {
+		    SnapshotValidationJob job = validationJob;
+		    validationJob = null;
+		    if (job != null) job.cancel();
+		}
+		
+		/**
+		 * Replaces the tree with graphs loaded in the background, unless
+		 * the view has been closed or reloaded meanwhile.
+		 */
+		private void showLoadedGraphs(SnapshotValidationJob job, Graph[] loaded) {
+		    if (job != validationJob || treeViewer.getControl().isDisposed()) return;
+		    graphs = loaded;
+		    createTree();
+		    inputChanged(treeViewer, null, null);
+		    expandTree();
+		    setView();
+		}
+	}
+	
+	/**
+	 * Content provider for the virtual tree. Tree items are created by the tree only
+	 * when they become visible, and the tree objects for them are created from the
+	 * subgraphs of their parent's graph when the items are created, so the memory used
+	 * and the time to show the tree do not grow with the number of graphs.
+	 */
+	class VirtualContentProvider extends ViewContentProvider implements ILazyTreeContentProvider {
+		public void updateElement(Object parent, int index) {
+		    TreeObject node = node(parent);
+		    if (node == null || index >= node.getChildCount()) return;
+		    TreeObject child = node.getChild(index);
+		    treeViewer.replace(parent, index, child);
+		    treeViewer.setHasChildren(child, child.hasChildren());
+		}
+		public void updateChildCount(Object element, int currentChildCount) {
+		    TreeObject node = node(element);
+		    int count = (node == null) ? 0 : node.getChildCount();
+		    if (count != currentChildCount) treeViewer.setChildCount(element, count);
+		}
+		public Object getParent(Object element) {
+		    Object parent = super.getParent(element);
+		    // The top level items are children of the input, not of the invisible root.
+		    if (parent instanceof TreeObject && ((TreeObject) parent).getParent() == null) {
+			return treeViewer.getInput();
+		    }
+		    return parent;
+		}
+		private TreeObject node(Object element) {
+		    if (element instanceof TreeObject) return (TreeObject) element;
+		    if (element != null && element.equals(getViewSite())) return getRoot();
+		    return null;
+		}
+	}
+	
+	/**
+	 * Job that loads the graphs from MetaEdit+ after the view has been created from
+	 * a snapshot. If the graphs have changed, the tree is updated and a new snapshot saved.
+	 */
+	class SnapshotValidationJob extends Job {
+		private byte[] snapshot;
+		
+		public SnapshotValidationJob(Graph[] snapshot) {
+		    super("Checking MetaEdit+ graphs");
+		    this.snapshot = GraphSnapshot.fingerprint(snapshot);
+		    setRule(LOAD_RULE);
+		}
+		
+		protected IStatus run(IProgressMonitor monitor) {
+		    if (monitor.isCanceled() || !Launcher.isApiOK()) return Status.CANCEL_STATUS;
+		    // The snapshot has the time stamps, so only changed graphs are fetched when refreshing.
+		    boolean incremental = Settings.getSettings().isIncrementalRefresh();
+		    if (!incremental) Graph.resetCaches();
+		    final Graph[] loaded = GraphHandler.load(incremental, monitor, null);
+		    if (monitor.isCanceled() || !GraphHandler.isLastLoadComplete()) return Status.CANCEL_STATUS;
+		    GraphSnapshot.save(loaded);
+		    GeneratorCache.warmUp(Graph.cachedGraphs());
+		    // Without the caches the loaded graphs are new instances, so the tree must
+		    // show them even if they have not changed.
+		    if (!incremental || !Arrays.equals(snapshot, GraphSnapshot.fingerprint(loaded))) {
+			Display.getDefault().asyncExec(new Runnable() {
+			    public void run() {
+				viewContentProvider.showLoadedGraphs(SnapshotValidationJob.this, loaded);
+			    }
+			});
+		    }
+		    return Status.OK_STATUS;
+		}
+	}
+	
+	/**
+	 * Job that loads the graphs from MetaEdit+ with a progress monitor. When all graphs
+	 * are loaded again, they are added to the tree in batches as they arrive, and the tree
+	 * is replaced with the complete one when the load is done. The job can be cancelled,
+	 * leaving the graphs loaded so far in the tree.
+	 */
+	class LoadJob extends Job implements GraphLoader.Listener {
+		private boolean incremental;
+		
+		public LoadJob(boolean incremental) {
+		    super("Loading MetaEdit+ graphs");
+		    this.incremental = incremental;
+		    setRule(LOAD_RULE);
+		}
+		
+		protected IStatus run(IProgressMonitor monitor) {
+		    if (monitor.isCanceled()) return Status.CANCEL_STATUS;
+		    if (!incremental) Graph.resetCaches();
+		    // A refresh keeps the old tree until it is done.
+		    final Graph[] loaded = GraphHandler.load(incremental, monitor, incremental ? null : this);
+		    final boolean complete = GraphHandler.isLastLoadComplete();
+		    if (complete) {
+			// Fetch the subgraphs of the top level graphs, as the tree is opened to them.
+			if (Settings.getSettings().isLazyLoading()) GraphHandler.prefetchChildren(loaded);
+			if (loaded.length > 0) GraphSnapshot.save(loaded);
+		    }
+		    Display.getDefault().asyncExec(new Runnable() {
+			public void run() {
+			    viewContentProvider.loadFinished(LoadJob.this, loaded);
+			}
+		    });
+		    return complete ? Status.OK_STATUS : Status.CANCEL_STATUS;
+		}
+		
+		public void graphsLoaded(final Graph[] batch) {
+		    Display.getDefault().asyncExec(new Runnable() {
+			public void run() {
+			    viewContentProvider.addGraphs(LoadJob.this, batch);
+			}
+		    });
+		}
+	}
+	
+	/**
+	 * Job that fetches the subgraphs of the graphs shown under an opened tree object,
+	 * so that they can be opened without waiting and show correctly if they have children.
+	 */
+	class PrefetchJob extends Job {
+		private TreeObject parent;
+		private Graph[] graphs;
+		
+		public PrefetchJob(TreeObject parent, Graph[] graphs) {
+		    super("Fetching MetaEdit+ subgraphs");
+		    this.parent = parent;
+		    this.graphs = graphs;
+		    setSystem(true);
+		}
+		
+		protected IStatus run(IProgressMonitor monitor) {
+		    if (monitor.isCanceled()) return Status.CANCEL_STATUS;
+		    GraphHandler.prefetchChildren(graphs);
+		    Display.getDefault().asyncExec(new Runnable() {
+			public void run() {
+			    if (!treeViewer.getControl().isDisposed()) treeViewer.refresh(parent);
+			}
+		    });
+		    return Status.OK_STATUS;
+		}
+	}
+	
+	/**
+	 * Job that fetches the subgraphs of an opened graph whose subgraphs were not
+	 * fetched yet, and then shows them in place of the pending item.
+	 */
+	class ChildrenJob extends Job {
+		private TreeObject node;
+		
+		public ChildrenJob(TreeObject node) {
+		    super("Fetching MetaEdit+ subgraphs");
+		    this.node = node;
+		    setSystem(true);
+		}
+		
+		protected IStatus run(IProgressMonitor monitor) {
+		    final Graph[] children = GraphHandler.getChildren(node.getGraph());
+		    Display.getDefault().asyncExec(new Runnable() {
+			public void run() {
+			    node.childrenFetched(children);
+			    if (!treeViewer.getControl().isDisposed()) treeViewer.refresh(node);
+			}
+		    });
+		    return Status.OK_STATUS;
+		}
 	}
 	
 	class ViewLabelProvider extends LabelProvider {
@@ -197,15 +622,15 @@ public class GraphView extends ViewPart implements Observer {
 		    return obj.toString();
 		}
 		
+		/**
+		 * Gets the icon of the graph type from the shared image registry. The images
+		 * are owned by the registry, so the label provider does not dispose them.
+		 */
 		public Image getImage(Object obj) {
-		    String imagePath = "icons/graph_icon.png";
-		    ImageDescriptor image;
-		    URL url = null;
-		    try {
-			url = new URL(Platform.getBundle(Activator.PLUGIN_ID).getEntry("/"), imagePath);
-		    } catch (MalformedURLException e) { }
-		    image = ImageDescriptor.createFromURL(url);
-		    return image.createImage();
+		    if (obj instanceof TreeObject && ((TreeObject) obj).getGraph() != null) {
+			return GraphImages.getImage(((TreeObject) obj).getGraph());
+		    }
+		    return GraphImages.getImage(GraphImages.GRAPH_ICON);
 		}
 	}
 	
@@ -258,12 +683,20 @@ public class GraphView extends ViewPart implements Observer {
 	 * @param parent The parent composite for the view.
 	 */
 	private void createTreeView(Composite parent) {
-	    	treeViewer = new TreeViewer(parent, SWT.H_SCROLL | SWT.V_SCROLL);
-	    	viewContentProvider = new ViewContentProvider();
+	    	// The virtual mode is read when the view is created, as it is a style of the tree.
+	    	virtual = Settings.getSettings().isVirtualTree();
+	    	if (virtual) {
+	    	    treeViewer = new TreeViewer(parent, SWT.MULTI | SWT.H_SCROLL | SWT.V_SCROLL | SWT.VIRTUAL);
+	    	    treeViewer.setUseHashlookup(true);
+	    	    viewContentProvider = new VirtualContentProvider();
+	    	} else {
+	    	    treeViewer = new TreeViewer(parent, SWT.MULTI | SWT.H_SCROLL | SWT.V_SCROLL);
+	    	    viewContentProvider = new ViewContentProvider();
+	    	}
 	    	treeViewer.setContentProvider(viewContentProvider);
 	    	treeViewer.setLabelProvider(new ViewLabelProvider());
 	    	treeViewer.setInput(getViewSite());
-	    	treeViewer.expandToLevel(2);    	
+	    	expandTree();
 	    	treeViewer.addSelectionChangedListener(new ISelectionChangedListener() {
         		    
 	    	    @Override
@@ -274,6 +707,14 @@ public class GraphView extends ViewPart implements Observer {
 	    	});
 	}
 	
+	/**
+	 * Opens the top level graphs. The virtual tree is left closed, so that only
+	 * the top level items are created.
+	 */
+	private void expandTree() {
+	    if (!virtual) treeViewer.expandToLevel(2);
+	}
+	
 	/**
 	 * Creates an error view that is shown when no API connection is available.
 	 * @param parent The parent composite for the error view.
@@ -329,12 +770,22 @@ public class GraphView extends ViewPart implements Observer {
 	private void contributeToActionBars() {
 		IActionBars bars = getViewSite().getActionBars();
 		fillLocalToolBar(bars.getToolBarManager());
+		fillLocalPullDown(bars.getMenuManager());
+	}
+	
+	private void fillLocalPullDown(IMenuManager manager) {
+	    manager.add(actionSaveApiStatistics);
+	    manager.add(actionResetApiStatistics);
+	    manager.add(new Separator());
+	    manager.add(actionCancelGenerators);
 	}
 
 	private void fillContextMenu(IMenuManager manager) {
 		if (!treeViewer.getSelection().isEmpty()) {
 		    manager.add(actionRunAutobuild);
 		    if (this.is50OrLater()) manager.add(actionCallGenerator);	
+		    if (this.is50OrLater()) manager.add(actionRunGeneratorOnSelection);
+		    if (this.is50OrLater()) manager.add(actionRunGeneratorOnType);
 		    manager.add(new Separator());
 		    manager.add(actionOpenInMetaEdit);
 		    if (this.is50OrLater()) manager.add(actionOpenEditPropertiesDialog);
@@ -387,6 +838,8 @@ public class GraphView extends ViewPart implements Observer {
 	    
 	    actionRunAutobuild.setEnabled(_isAPI && _isSelection);
 	    actionCallGenerator.setEnabled( _is50OrLater && _isAPI && _isSelection);
+	    actionRunGeneratorOnSelection.setEnabled(_is50OrLater && _isAPI && _isSelection);
+	    actionRunGeneratorOnType.setEnabled(_is50OrLater && _isAPI && _isSelection);
 	    actionOpenInMetaEdit.setEnabled(_isAPI && _isSelection);
 	    actionOpenCreateGraphDialog.setEnabled(_is50OrLater && _isAPI);
 	    actionUpdateGraphList.setEnabled(true);
@@ -409,6 +862,89 @@ public class GraphView extends ViewPart implements Observer {
 		return to.getGraph();
 	}
 
+	/**
+	 * Gets the selected graphs from treeview, each once.
+	 * @return selected Graphs in the order of the selection.
+	 */
+	private List<Graph> getSelectedGraphs(){
+		LinkedHashSet<Graph> graphs = new LinkedHashSet<Graph>();
+		for (Object o : ((IStructuredSelection) treeViewer.getSelection()).toList()) {
+		    Graph g = ((TreeObject) o).getGraph();
+		    if (g != null) graphs.add(g);
+		}
+		return new ArrayList<Graph>(graphs);
+	}
+
+	/**
+	 * Called with the generator chosen in the generator dialog.
+	 */
+	private static abstract class GeneratorChoice {
+	    abstract void chosen(String generator);
+	}
+	
+	/**
+	 * Shows the generators of the graphs' types to user in a list where user can choose
+	 * one to be run. With graphs of many types, only the generators they all have are shown.
+	 * @param graphs the graphs the generator is run for.
+	 * @param choice called with the chosen generator.
+	 */
+	private void showGeneratorDialog(List<Graph> graphs, final GeneratorChoice choice) {
+		// Creates dialog that shows available generators and lets user to select one.
+		String okString = "<HTML><p>Select the generator to run.</p></HTML>";
+		String notOkString = "<HTML><p>No generators found for the the graph</p></HTML>";
+		JFrame frame = new JFrame("");
+		
+		ArrayList<String> generatorList = null;
+		HashSet<String> types = new HashSet<String>();
+		for (Graph g : graphs) {
+		    if (!types.add(g.getType())) continue;
+		    String [] generators = new String[0];
+		    try {
+			// Cached for each graph type, so that the list usually opens at once.
+			generators = GeneratorCache.getGeneratorNames(g.getMEType());
+		    } catch (RemoteException e) {
+			e.printStackTrace();
+		    }
+		    
+		    ArrayList<String> typeList = new ArrayList<String>();
+		    for (int i=generators.length-1; i >= 0; i--) {
+			if (!generators[i].startsWith("_") && !generators[i].startsWith("!")) {
+			    typeList.add(generators[i]);
+			}
+		    }
+		    if (generatorList == null) {
+			generatorList = typeList;
+		    } else {
+			generatorList.retainAll(typeList);
+		    }
+		}
+		if (generatorList == null) generatorList = new ArrayList<String>();
+		
+		final SelectionDialog p = new SelectionDialog(frame, generatorList, true, okString ,notOkString);
+		JComponent newContentPane = p;
+		frame.setContentPane(newContentPane);
+		frame.addWindowListener(new WindowListener() {
+		    public void windowOpened(WindowEvent e) { }
+		    public void windowIconified(WindowEvent e) { }
+		    public void windowDeiconified(WindowEvent e) { }
+		    public void windowDeactivated(WindowEvent e) { }
+		    public void windowClosing(WindowEvent e) {	}
+		    public void windowClosed(WindowEvent e) { 
+		    	if (p.getIsOKd()) {
+		    		choice.chosen(p.getItemsAsArray()[0]);
+				}
+		    }
+		    public void windowActivated(WindowEvent e) { }
+		});
+		
+		frame.setDefaultCloseOperation(JFrame.DISPOSE_ON_CLOSE);
+		frame.setResizable(true);
+		frame.setVisible(true);
+		frame.setSize(new Dimension(250, 300));
+		frame.setIconImage(SettingsDialog.getImage("icons/metaedit_logo.png"));
+		frame.setLocation(300, 300);
+	}
+	
 	/**
 	 * Creates the action methods for toolbar and context menu items.
 	 */
@@ -452,58 +988,53 @@ public class GraphView extends ViewPart implements Observer {
 		    	public void run() {
 		    		final Graph _graph = getSelectedGraph();
 		    		if (_graph == null) return;
-		    		// Creates dialog that shows available generators and lets user to select one.
-					String okString = "<HTML><p>Select the generator to run.</p></HTML>";
-					String notOkString = "<HTML><p>No generators found for the the graph</p></HTML>";
-					MetaEditAPIPortType port = Launcher.getPort();
-					
-					JFrame frame = new JFrame("");
-					
-					String [] generators = null;
-					try {
-					    String line = port.generatorNames(_graph.getMEType());
-					    generators = line.split("\r");
-					} catch (RemoteException e) {
-					    e.printStackTrace();
-					}
-					
-					ArrayList<String> generatorList = new ArrayList<String>();
-					
-					for (int i=generators.length-1; i >= 0; i--) {
-					    if (!generators[i].startsWith("_") && !generators[i].startsWith("!")) {
-					    	generatorList.add(generators[i]);
-					    }
-					}
-					
-					final SelectionDialog p = new SelectionDialog(frame, generatorList, true, okString ,notOkString);
-					JComponent newContentPane = p;
-					frame.setContentPane(newContentPane);
-					frame.addWindowListener(new WindowListener() {
-					    public void windowOpened(WindowEvent e) { }
-					    public void windowIconified(WindowEvent e) { }
-					    public void windowDeiconified(WindowEvent e) { }
-					    public void windowDeactivated(WindowEvent e) { }
-					    public void windowClosing(WindowEvent e) {	}
-					    public void windowClosed(WindowEvent e) { 
-					    	if (p.getIsOKd()) {
-					    		_graph.executeGenerator(p.getItemsAsArray()[0]);
-							}
-					    }
-					    public void windowActivated(WindowEvent e) { }
-					});
-					
-					frame.setDefaultCloseOperation(JFrame.DISPOSE_ON_CLOSE);
-					frame.setResizable(true);
-					frame.setVisible(true);
-					frame.setSize(new Dimension(250, 300));
-					frame.setIconImage(SettingsDialog.getImage("icons/metaedit_logo.png"));
-					frame.setLocation(300, 300);
+		    		showGeneratorDialog(Collections.singletonList(_graph), new GeneratorChoice() {
+		    		    void chosen(String generator) {
+		    		    	_graph.executeGenerator(generator);
+		    		    }
+		    		});
 				}
 		};
 		this.setActionDetails(actionCallGenerator,
 				"Select Generator to Run",
 				"icons/select_generator_to_run_icon.png");
 		
+		// Runs a selected generator for all selected graphs, as one batch.
+		actionRunGeneratorOnSelection = new Action() {
+		    	public void run() {
+		    		final List<Graph> graphs = getSelectedGraphs();
+		    		if (graphs.isEmpty()) return;
+		    		showGeneratorDialog(graphs, new GeneratorChoice() {
+		    		    void chosen(String generator) {
+		    		    	new BatchGenerator(graphs, generator).schedule();
+		    		    }
+		    		});
+		    	}
+		};
+		this.setActionDetails(actionRunGeneratorOnSelection,
+				"Run Generator for Selected Graphs",
+				"icons/select_generator_to_run_icon.png");
+		
+		// Runs a selected generator for all loaded graphs of the selected graph's type, as one batch.
+		actionRunGeneratorOnType = new Action() {
+		    	public void run() {
+		    		Graph _graph = getSelectedGraph();
+		    		if (_graph == null) return;
+		    		final List<Graph> graphs = new ArrayList<Graph>();
+		    		for (Graph g : Graph.cachedGraphs()) {
+		    		    if (_graph.getType().equals(g.getType())) graphs.add(g);
+		    		}
+		    		showGeneratorDialog(Collections.singletonList(_graph), new GeneratorChoice() {
+		    		    void chosen(String generator) {
+		    		    	new BatchGenerator(graphs, generator).schedule();
+		    		    }
+		    		});
+		    	}
+		};
+		this.setActionDetails(actionRunGeneratorOnType,
+				"Run Generator for All Graphs of This Type",
+				"icons/select_generator_to_run_icon.png");
+		
 		// Open settings dialog.
 		actionOpenSettings = new Action() {
 			public void run() {
@@ -525,9 +1056,9 @@ public class GraphView extends ViewPart implements Observer {
 		actionUpdateGraphList = new Action() {
 			public void run() {
 			    Object oldInput = treeViewer.getInput();
-			    viewContentProvider.initialize();
+			    viewContentProvider.update();
 			    viewContentProvider.inputChanged(treeViewer, oldInput, treeViewer.getInput());
-			    treeViewer.expandToLevel(2);
+			    expandTree();
 			    setView();
 			}
 		};
@@ -564,7 +1095,9 @@ public class GraphView extends ViewPart implements Observer {
 		// Opens properties dialog for the selected graph in MetaEdit+.
 		actionOpenEditPropertiesDialog = new Action() {
 			public void run() {
-			    MEDialog md = new MEDialog(MEDialog.EDIT_GRAPH_PROPERTIES, getSelectedGraph());
+			    Graph _graph = getSelectedGraph();
+			    if (_graph == null) return;
+			    MEDialog md = new MEDialog(MEDialog.EDIT_GRAPH_PROPERTIES, _graph);
 			    md.start();
 			}
 		};
@@ -582,6 +1115,43 @@ public class GraphView extends ViewPart implements Observer {
 		this.setActionDetails(actionToggleGraphTypeText,
 				"Show/Hide Graph Type", 
 				"icons/folder_explore.png");
+		
+		// Saves the statistics of the MetaEdit+ API calls to a text file.
+		actionSaveApiStatistics = new Action() {
+			public void run() {
+			    FileDialog dialog = new FileDialog(getSite().getShell(), SWT.SAVE);
+			    dialog.setText("Save API Call Statistics");
+			    dialog.setFilterExtensions(new String[] { "*.txt", "*.*" });
+			    dialog.setFileName("api-statistics.txt");
+			    dialog.setOverwrite(true);
+			    String path = dialog.open();
+			    if (path == null) return;
+			    try {
+			    	ApiStatistics.save(new File(path));
+			    } catch (IOException e) {
+			    	e.printStackTrace();
+			    	DialogProvider.showMessageDialog("Could not save the statistics: " + e.getMessage(), "Save error");
+			    }
+			}
+		};
+		actionSaveApiStatistics.setText("Save API Call Statistics...");
+		actionSaveApiStatistics.setToolTipText("Save the number, times and sizes of the MetaEdit+ API calls to a file");
+		
+		actionResetApiStatistics = new Action() {
+			public void run() {
+			    ApiStatistics.reset();
+			}
+		};
+		actionResetApiStatistics.setText("Reset API Call Statistics");
+		actionResetApiStatistics.setToolTipText("Forget the MetaEdit+ API calls recorded so far");
+		
+		actionCancelGenerators = new Action() {
+			public void run() {
+			    GeneratorQueue.cancelAll();
+			}
+		};
+		actionCancelGenerators.setText("Cancel Generator Runs");
+		actionCancelGenerators.setToolTipText("Cancel the queued and running generators and their imports");
 	}
 	
 	/**
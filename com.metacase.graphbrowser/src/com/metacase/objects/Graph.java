@@ -10,23 +10,31 @@ package com.metacase.objects;
 
 import java.io.File;
 import java.rmi.RemoteException;
+import java.text.CollationKey;
+import java.text.Collator;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import com.metacase.API.*;
 import com.metacase.graphbrowser.*;
 
 public class Graph {
 
-	private String name;
-	private String type;
-	private String typeName;
+	private volatile String name;
+	private volatile CollationKey sortKey;
+	private volatile String type;
+	private volatile String typeName;
 	private int areaID;
 	private int objectID;
 	private boolean isChild  = false;
+	private long timeStamp = 0;
 	private String classToLaunch = "";
 	private String projectName = "";
-	private Graph[] children = new Graph[0];
-	private static Hashtable<String, String> typeNameTable = new Hashtable<String, String>();
-	private static Hashtable<Integer, Hashtable<Integer, Graph>> projectTable = new Hashtable<Integer, Hashtable<Integer, Graph>>();
+	private volatile Graph[] children = new Graph[0];
+	private volatile boolean childrenLoaded = false;
+	private volatile List<Graph> sortedChildren;
+	private static final Collator collator = Collator.getInstance();
+	private static final ConcurrentHashMap<String, String> typeNameTable = new ConcurrentHashMap<String, String>();
+	private static final GraphCache graphCache = new GraphCache(16, 0);
 	
 	/**
 	 * Constructor.
@@ -42,17 +50,11 @@ public class Graph {
 	    this.setTypeName(typeName);
 	    this.setAreaID(areaID);
 	    this.setObjectID(objectID);
-	    Hashtable<Integer, Graph> graphTable = (Hashtable<Integer, Graph>) projectTable.get(areaID);
-	    if ( graphTable == null ) {
-	    	graphTable = new Hashtable<Integer, Graph>();
-	    	projectTable.put(areaID, graphTable);
-	    }
-	    graphTable.put(objectID, this);
 	}
 	
 	/**
-	 * Creates Graph object from MEOop and saves it to Hashtable.
-	 * Checks if the graph is already in the hashtable. Does not
+	 * Creates Graph object from MEOop and saves it to the graph cache.
+	 * Checks if the graph is already in the cache. Does not
 	 * duplicate graphs. If graph already exists checks if its name
 	 * has changed and edits it if needed.
 	 * 
@@ -61,37 +63,83 @@ public class Graph {
 	 * @throws RemoteException 
 	 */
 	public static Graph MEOopToGraph(MEOop m) throws RemoteException {
-	    Hashtable<Integer, Graph> graphTable = (Hashtable<Integer, Graph>) projectTable.get(m.getAreaID());
-	    Graph graph = null;
-            if (graphTable == null)
-            {
-                graphTable = new Hashtable<Integer, Graph>();
-                projectTable.put(m.getAreaID(), graphTable);
-            }
-            graph = (Graph) graphTable.get(m.getObjectID());	
-            MetaEditAPIPortType port = Launcher.getPort();
-        
+	    return MEOopToGraph(m, Launcher.getPort());
+	}
+
+	/**
+	 * Creates Graph object from MEOop using the given port. The API calls are made
+	 * before the graph cache is locked, so several loader threads can call this at
+	 * the same time and still only one Graph is created for each MEOop.
+	 * 
+	 * @param m MEOop object
+	 * @param port Port for API calls.
+	 * @return graph The created or updated Graph
+	 * @throws RemoteException
+	 */
+	public static Graph MEOopToGraph(MEOop m, MetaEditAPIPortType port) throws RemoteException {
             METype _graphType = port.type(m);
-            String _typeName;
-            if (typeNameTable.containsKey(_graphType.getName()))
-            {
-                _typeName = (String)typeNameTable.get(_graphType.getName());
-            }
-            else
+            String _typeName = typeNameTable.get(_graphType.getName());
+            if (_typeName == null)
             {
                 _typeName = port.typeName(_graphType);
-                typeNameTable.put(_graphType.getName(), _typeName);
-            }
-            if (graph == null) {
-        	graph = new Graph(port.userPrintString(m), _graphType.getName(), _typeName, m.getAreaID(), m.getObjectID());
-                graphTable.put(m.getObjectID(), graph);
-        	    }
-            else {
-                graph.setName(port.userPrintString(m));
-                graph.setType(_graphType.getName());
-                graph.setTypeName(_typeName);
+                cacheTypeName(_graphType.getName(), _typeName);
             }
-            return graph;
+            String _name = port.userPrintString(m);
+            return register(_name, _graphType.getName(), _typeName, m.getAreaID(), m.getObjectID());
+	}
+
+	/**
+	 * Creates Graph object from values already read from MetaEdit+ or saved earlier,
+	 * without calling MetaEdit+. Used when restoring graphs from a snapshot and by
+	 * the batch resolver.
+	 * 
+	 * @param name Graph name
+	 * @param type Graph type
+	 * @param typeName Graph type name
+	 * @param areaID Area id of MEOop
+	 * @param objectID Object id of MEOop
+	 * @return graph The created or updated Graph
+	 */
+	public static Graph restore(String name, String type, String typeName, int areaID, int objectID) {
+	    if (type != null && typeName != null) typeNameTable.putIfAbsent(type, typeName);
+	    return register(name, type, typeName, areaID, objectID);
+	}
+
+	/**
+	 * Gets the type name of a graph type from the type name table.
+	 * 
+	 * @param type Graph type
+	 * @return the type name, or null if it has not been fetched.
+	 */
+	public static String getCachedTypeName(String type) {
+	    return (type == null) ? null : typeNameTable.get(type);
+	}
+
+	/**
+	 * Saves the type name of a graph type to the type name table.
+	 * 
+	 * @param type Graph type
+	 * @param typeName Graph type name
+	 */
+	public static void cacheTypeName(String type, String typeName) {
+	    if (type != null && typeName != null) typeNameTable.put(type, typeName);
+	}
+
+	/**
+	 * Gets the graph from the graph cache or creates it if it is not there yet.
+	 * Existing graphs get the new name and type.
+	 */
+	private static Graph register(final String name, final String type, final String typeName,
+	        final int areaID, final int objectID) {
+	    Graph graph = graphCache.getOrCreate(key(areaID, objectID), new GraphCache.Factory() {
+	        public Graph create() {
+	            return new Graph(name, type, typeName, areaID, objectID);
+	        }
+	    });
+	    graph.setName(name);
+	    graph.setType(type);
+	    graph.setTypeName(typeName);
+	    return graph;
 	}
 
 	/**
@@ -99,79 +147,163 @@ public class Graph {
     */
     public static void resetCaches()
     {
-    	projectTable = new Hashtable<Integer, Hashtable<Integer, Graph>>();
-        typeNameTable = new Hashtable<String, String>();
+    	graphCache.clear();
+        typeNameTable.clear();
     }
+
+	/**
+	 * Gets the cache that keeps the Graph objects, for its size limit and counters.
+	 * 
+	 * @return the graph cache.
+	 */
+	public static GraphCache getCache() {
+	    return graphCache;
+	}
+
+	/**
+	 * Gets a graph from the graph cache without calling MetaEdit+.
+	 * 
+	 * @param areaID Area id of MEOop
+	 * @param objectID Object id of MEOop
+	 * @return the graph or null if it has not been created.
+	 */
+	public static Graph lookup(int areaID, int objectID) {
+	    return graphCache.get(key(areaID, objectID));
+	}
+
+	/**
+	 * Gets all graphs in the graph cache.
+	 * 
+	 * @return the created graphs.
+	 */
+	public static ArrayList<Graph> cachedGraphs() {
+	    return graphCache.values();
+	}
+
+	/**
+	 * Removes a graph that no longer exists in MetaEdit+ from the graph cache.
+	 * 
+	 * @param graph the removed graph.
+	 */
+	public static void forget(Graph graph) {
+	    graphCache.remove(graph.getKey(), graph);
+	}
 	
 	/**
-	 * The generator run process. Calls for plugin.ini file writer, runs the generator,
-	 * reads and removes the plugin.ini file and imports and executes (maybe) the imported project. 
+	 * The generator run process. Queues the generator run: writing the plugin.ini file,
+	 * running the generator, reading and removing the plugin.ini file and importing and
+	 * executing (maybe) the imported project are done in the background. Each run has
+	 * its own directory for its plugin.ini file, so several runs can be in progress at
+	 * once; only the generator calls themselves take turns, as generate holds the port
+	 * while MetaEdit+ runs the generator in that directory. See GeneratorQueue.
 	 * 
 	 * @param generator Name of the generator.
 	 */
 	public void executeGenerator(String generator) {
-	    String pluginINIpath = this.writePluginIniFile();
-	    MetaEditAPIPortType port = Launcher.getPort();
-	    // Run generator
-	    this.runGenerator(port, generator);
-	    // Remove the written INI file and import generated project.
-	    this.readAndRemoveIniFile(pluginINIpath);
-	    
-	    /* null values show that those values were not included in ini file.
-	       In that case graph's name is used for both project name and main class name. */
-	    Importer.importAndExecute(
-		    	this.getProjectName()   == null ? this.getName() 		: this.getProjectName(),
-				this.getClassToLaunch() == null ? "_" + this.getName() 	: this.getClassToLaunch()
-		    );
+	    GeneratorQueue.run(this, generator);
 	}
 
 	/**
-	 * Runs generator for caller Graph. After calling ME+ to run generator, tries
-	 * to import project with same name as the graph to workspace. Used for MetaEdit+ 5.0 API
+	 * Runs generator for caller Graph. Used for MetaEdit+ 5.0 API, and with forName
+	 * for older versions. Returns when MetaEdit+ has run the generator.
 	 * 
 	 * @param port Connection to MetaEdit+
 	 * @param generator Generator name that is to be run.
+	 * @return true if the generator was run, false if the API call failed.
 	 */
-	public void runGenerator(MetaEditAPIPortType port, String generator) {
-		Settings s = Settings.getSettings();
+	public boolean runGenerator(MetaEditAPIPortType port, String generator) {
+	    return this.runGenerator(port, generator, null);
+	}
+
+	/**
+	 * Runs generator for caller Graph as runGenerator(port, generator), with the
+	 * given directory as the MetaEdit+ current directory.
+	 * 
+	 * @param port Connection to MetaEdit+
+	 * @param generator Generator name that is to be run.
+	 * @param directory Directory with the plugin.ini file of the run, or null for the working directory.
+	 * @return true if the generator was run, false if the API call failed.
+	 */
+	public boolean runGenerator(MetaEditAPIPortType port, String generator, File directory) {
 	    try {
-	    	if (s.getVersion().isAtLeast("5.0")) {
-	    		port.forGraphRun(this.toMEOop(), generator);
-	    	} else {
-	    		MENull meNull = new MENull();
-		    	port.forName(meNull, this.getName(), this.getTypeName(), generator);
-	    	}
+	    	this.generate(port, generator, directory);
+	    	return true;
 	    } catch (RemoteException e) { 
 			DialogProvider.showMessageDialog("API error: " + e.toString(), "API error");
 			e.printStackTrace();
+			return false;
 	    }
 	}
-		
+
 	/**
-	 * Reads and removes ini file.
+	 * Runs generator for caller Graph as runGenerator, but leaves showing the error
+	 * to the caller. Used for batch runs, which report their errors together.
 	 * 
-	 * @param path Path to the file.
+	 * @param port Connection to MetaEdit+
+	 * @param generator Generator name that is to be run.
+	 * @throws RemoteException if the API call failed.
 	 */
-	private void readAndRemoveIniFile(String path) {	    
-	    IniHandler h = new IniHandler(path);
-	    this.setClassToLaunch(h.getSetting("classToLaunch"));
-	    this.setProjectName(h.getSetting("projectName"));
-
-	    Importer.removeIniFile(new File(path));
-	} 
+	public void generate(MetaEditAPIPortType port, String generator) throws RemoteException {
+		this.generate(port, generator, null);
+	}
 
+	/**
+	 * Runs generator for caller Graph as generate(port, generator), with the given
+	 * directory as the MetaEdit+ current directory, so that the generator reads the
+	 * plugin.ini file of this run. The current directory is set back to the working
+	 * directory afterwards.
+	 * 
+	 * @param port Connection to MetaEdit+
+	 * @param generator Generator name that is to be run.
+	 * @param directory Directory with the plugin.ini file of the run, or null for the working directory.
+	 * @throws RemoteException if the API call failed.
+	 */
+	public void generate(MetaEditAPIPortType port, String generator, File directory) throws RemoteException {
+		Settings s = Settings.getSettings();
+		// MetaEdit+ has one current directory, so the runs through a connection must not interleave.
+		synchronized (port) {
+			if (directory != null) port.currentDir(new MENull(), directory.getPath());
+			try {
+		    	if (s.getVersion().isAtLeast("5.0")) {
+		    		port.forGraphRun(this.toMEOop(), generator);
+		    	} else {
+		    		MENull meNull = new MENull();
+			    	port.forName(meNull, this.getName(), this.getTypeName(), generator);
+		    	}
+			} finally {
+				if (directory != null) port.currentDir(new MENull(), s.getWorkingDirectory());
+			}
+		}
+	}
+	
+	/**
+	 * Packs area and object ID to a single key that identifies the graph.
+	 * 
+	 * @param areaID Area id of MEOop
+	 * @param objectID Object id of MEOop
+	 * @return key for the graph.
+	 */
+	public static long key(int areaID, int objectID) {
+	    return ((long) areaID << 32) | (objectID & 0xFFFFFFFFL);
+	}
 	
 	/**
-	 * Method stub for importer's plugin.ini writer. Writes the plugin.ini file under
-	 * the MetaEdit+ working directory.
+	 * Key of a MEOop, same as the key of the Graph created from it.
 	 * 
-	 * @param generatorName name of the generator in MetaEdit+.
-	 * @return path of the written ini file.
+	 * @param m MEOop object
+	 * @return key for the MEOop.
 	 */
-	private String writePluginIniFile() {
-	    Settings s = Settings.getSettings();
-	    // TODO: what if working directory is null or empty?
-	    return Importer.writePluginIniFile(s.getWorkingDirectory());
+	public static long key(MEOop m) {
+	    return key(m.getAreaID(), m.getObjectID());
+	}
+	
+	/**
+	 * Key that identifies this graph in hash sets and tables.
+	 * 
+	 * @return key packed from area and object ID.
+	 */
+	public long getKey() {
+	    return key(this.getAreaID(), this.getObjectID());
 	}
 	
 	/**
@@ -200,7 +332,22 @@ public class Graph {
 	 * @param _name Graphs name
 	 */
 	public void setName(String _name) {
+	    if (this.sortKey != null && _name != null && _name.equals(this.name)) return;
+	    CollationKey key;
+	    synchronized (collator) {
+		key = collator.getCollationKey(_name == null ? "" : _name);
+	    }
 	    this.name = _name;
+	    this.sortKey = key;
+	}
+	
+	/**
+	 * Getter for the collation key of the name, used for sorting the graphs.
+	 * 
+	 * @return the collation key.
+	 */
+	private CollationKey getSortKey() {
+	    return this.sortKey;
 	}
 	
 	/**
@@ -293,6 +440,24 @@ public class Graph {
 	    return this.name;
 	}
 	
+	/**
+	 * Setter for the MetaEdit+ modification time of the graph.
+	 * 
+	 * @param _timeStamp time in milliseconds, or 0 if not known.
+	 */
+	public void setTimeStamp(long _timeStamp) {
+	    this.timeStamp = _timeStamp;
+	}
+	
+	/**
+	 * Getter for the MetaEdit+ modification time of the graph.
+	 * 
+	 * @return time in milliseconds, or 0 if not known.
+	 */
+	public long getTimeStamp() {
+	    return this.timeStamp;
+	}
+	
 	/**
 	 * Sets the graph isChild property showing if the graph is subgraph of
 	 * another graph or not.
@@ -322,12 +487,54 @@ public class Graph {
 	}
 	
 	/**
-	 * Setter for children array.
+	 * Get Graph's children sorted with GraphComparator. The sorted children are kept,
+	 * so they are sorted only once after the children are set or sortChildren is called.
+	 * 
+	 * @return unmodifiable list of the children.
+	 */
+	public List<Graph> getSortedChildren() {
+	    List<Graph> sorted = this.sortedChildren;
+	    if (sorted == null) sorted = sortChildren();
+	    return sorted;
+	}
+	
+	/**
+	 * Sorts the children again, for example after the names of the children have changed.
+	 * 
+	 * @return unmodifiable list of the sorted children.
+	 */
+	public List<Graph> sortChildren() {
+	    Graph[] sorted = this.children.clone();
+	    Arrays.sort(sorted, GraphComparator);
+	    this.sortedChildren = Collections.unmodifiableList(Arrays.asList(sorted));
+	    return this.sortedChildren;
+	}
+	
+	/**
+	 * Setter for children array. Marks the children loaded.
 	 * 
 	 * @param children array of children graphs.
 	 */
 	public void setChildren(Graph[] children){
 	    this.children = children;
+	    this.sortedChildren = null;
+	    this.childrenLoaded = true;
+	}
+	
+	/**
+	 * Checks if the subgraphs of the graph have been fetched from MetaEdit+.
+	 * 
+	 * @return true if the children array is up to date.
+	 */
+	public boolean isChildrenLoaded() {
+	    return this.childrenLoaded;
+	}
+	
+	/**
+	 * Marks the children to be fetched again. The old children are kept until then.
+	 */
+	public void invalidateChildren() {
+	    this.childrenLoaded = false;
 	}
 	
 	/**
@@ -366,10 +573,15 @@ public class Graph {
 		this.projectName = _projectName;
 	}
 
+	/**
+	 * Orders graphs by their names in the collation order of the default locale, and
+	 * graphs with the same name by their type. The collation keys of the names are made
+	 * when the names are set, so sorting does not compare the name strings again.
+	 */
 	public static Comparator<Graph> GraphComparator
 			= new Comparator<Graph>() {
 		public int compare(Graph g1, Graph g2) {
-			int result = g1.getName().compareTo(g2.getName());
+			int result = g1.getSortKey().compareTo(g2.getSortKey());
 			if (result == 0) {
 				result = g1.getType().compareTo(g2.getType());
 			}
@@ -377,28 +589,4 @@ public class Graph {
 		}
 	};
 	
-	/**
-	 * Init graphs children recursively calling method for every children. Except
-	 * those that are already initialized.
-	 * 
-	 * @param port Port for API calls.
-	 * @param done Array of graphs that are initialized.
-	 * @throws Exception
-	 */
-	public void initChildren(MetaEditAPIPortType port, ArrayList<Graph> done) throws  Exception {
-	    if (done.contains(this)) return;
-	    done.add(this);
-	    MEOop[] subgraphOops = null;
-	    subgraphOops = port.subgraphs(this.toMEOop());	    
-	    // Set the subgraph items to be children of this graph.
-	    if (subgraphOops.length > 0 && subgraphOops != null) {
-	    	Graph [] graphs = new Graph[subgraphOops.length];
-	    	for (int i=0; i < subgraphOops.length; i++) {
-	    		Graph g = graphs[i] = MEOopToGraph(subgraphOops[i]);
-	    		g.setIsChild(true);
-	    		g.initChildren(port, done);
-	    	}
-	    this.setChildren(graphs);
-	    }
-	}
 }
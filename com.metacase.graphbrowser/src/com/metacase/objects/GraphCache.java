@@ -0,0 +1,255 @@
+/**
+ * Copyright (c) 2011 MetaCase Consulting
+ * Released under the MIT license. See the file license.txt for details.
+ *
+ * GraphCache class keeps the Graph objects created from MetaEdit+ graphs, one for each
+ * graph, keyed by the area and object ID packed to a long (see Graph.key). Graphs over
+ * the size limit are only kept weakly, so they are dropped when nothing else refers to
+ * them, and a graph still referred to, for example as a subgraph, is never created twice.
+ */
+
+package com.metacase.objects;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class GraphCache {
+
+	/**
+	 * Creates the graph when it is not in the cache.
+	 */
+	public interface Factory {
+		Graph create();
+	}
+
+	private final Segment[] segments;
+	private volatile int maxSize;
+	private final AtomicLong hits = new AtomicLong();
+	private final AtomicLong misses = new AtomicLong();
+	private final AtomicLong evictions = new AtomicLong();
+
+	/**
+	 * Weak reference to an evicted graph, with its key for removing it when it is cleared.
+	 */
+	private static class GraphRef extends WeakReference<Graph> {
+		final long key;
+
+		GraphRef(long key, Graph graph, ReferenceQueue<Graph> queue) {
+			super(graph, queue);
+			this.key = key;
+		}
+	}
+
+	/**
+	 * One lock stripe: an access ordered map, so that the least recently used
+	 * graph is the eldest entry, and the evicted graphs that may still be in use.
+	 */
+	@SuppressWarnings("serial")
+	private class Segment extends LinkedHashMap<Long, Graph> {
+		final HashMap<Long, GraphRef> evicted = new HashMap<Long, GraphRef>();
+		final ReferenceQueue<Graph> queue = new ReferenceQueue<Graph>();
+
+		Segment() {
+			super(16, 0.75f, true);
+		}
+
+		protected boolean removeEldestEntry(Map.Entry<Long, Graph> eldest) {
+			int limit = maxSize;
+			if (limit > 0 && size() > Math.max(1, limit / segments.length)) {
+				evicted.put(eldest.getKey(), new GraphRef(eldest.getKey(), eldest.getValue(), queue));
+				evictions.incrementAndGet();
+				return true;
+			}
+			return false;
+		}
+
+		/**
+		 * Gets a kept graph, or an evicted one that is still in use, which is kept again.
+		 */
+		Graph find(long key) {
+			expunge();
+			Graph g = get(key);
+			if (g != null) return g;
+			GraphRef ref = evicted.remove(key);
+			g = (ref == null) ? null : ref.get();
+			if (g != null) put(key, g);
+			return g;
+		}
+
+		/**
+		 * Forgets the evicted graphs that are no longer in use.
+		 */
+		void expunge() {
+			GraphRef ref;
+			while ((ref = (GraphRef) queue.poll()) != null) {
+				if (evicted.get(ref.key) == ref) evicted.remove(ref.key);
+			}
+		}
+
+		void addLiveEvicted(Collection<Graph> graphs) {
+			for (GraphRef ref : evicted.values()) {
+				Graph g = ref.get();
+				if (g != null) graphs.add(g);
+			}
+		}
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * @param concurrency number of lock stripes, rounded up to a power of two.
+	 * @param maxSize maximum number of graphs kept, or 0 for no limit.
+	 */
+	public GraphCache(int concurrency, int maxSize) {
+		int n = 1;
+		while (n < concurrency) n <<= 1;
+		this.segments = new Segment[n];
+		for (int i = 0; i < n; i++) {
+			this.segments[i] = new Segment();
+		}
+		this.maxSize = maxSize;
+	}
+
+	private Segment segmentFor(long key) {
+		int h = (int) (key ^ (key >>> 32));
+		h ^= (h >>> 16);
+		h *= 0x85EBCA6B;
+		h ^= (h >>> 13);
+		return segments[h & (segments.length - 1)];
+	}
+
+	/**
+	 * Gets a graph from the cache.
+	 *
+	 * @param key key of the graph.
+	 * @return the graph or null if it is not in the cache.
+	 */
+	public Graph get(long key) {
+		Segment s = segmentFor(key);
+		Graph g;
+		synchronized (s) {
+			g = s.find(key);
+		}
+		(g == null ? misses : hits).incrementAndGet();
+		return g;
+	}
+
+	/**
+	 * Gets a graph from the cache or creates it with the factory. The graph is created
+	 * while holding the lock of its stripe, so threads asking for the same key at the
+	 * same time get the same graph.
+	 *
+	 * @param key key of the graph.
+	 * @param factory creates the graph if it is not in the cache.
+	 * @return the cached or created graph.
+	 */
+	public Graph getOrCreate(long key, Factory factory) {
+		Segment s = segmentFor(key);
+		synchronized (s) {
+			Graph g = s.find(key);
+			if (g != null) {
+				hits.incrementAndGet();
+				return g;
+			}
+			misses.incrementAndGet();
+			g = factory.create();
+			s.put(key, g);
+			return g;
+		}
+	}
+
+	/**
+	 * Removes a graph, if the key still maps to it.
+	 *
+	 * @param key key of the graph.
+	 * @param graph the graph to remove.
+	 */
+	public void remove(long key, Graph graph) {
+		Segment s = segmentFor(key);
+		synchronized (s) {
+			if (s.find(key) == graph) s.remove(key);
+		}
+	}
+
+	/**
+	 * Gets all cached graphs.
+	 *
+	 * @return the graphs in no particular order.
+	 */
+	public ArrayList<Graph> values() {
+		ArrayList<Graph> graphs = new ArrayList<Graph>();
+		for (Segment s : segments) {
+			synchronized (s) {
+				graphs.addAll(s.values());
+				s.addLiveEvicted(graphs);
+			}
+		}
+		return graphs;
+	}
+
+	/**
+	 * Removes all graphs. The counters are not reset.
+	 */
+	public void clear() {
+		for (Segment s : segments) {
+			synchronized (s) {
+				s.clear();
+				s.evicted.clear();
+			}
+		}
+	}
+
+	/**
+	 * @return number of graphs kept, not counting the evicted graphs still in use.
+	 */
+	public int size() {
+		int size = 0;
+		for (Segment s : segments) {
+			synchronized (s) {
+				size += s.size();
+			}
+		}
+		return size;
+	}
+
+	/**
+	 * Sets the maximum number of graphs kept. The limit is divided evenly between the
+	 * lock stripes, and the least recently used graph of a full stripe is evicted: it
+	 * is dropped when nothing else refers to it, and created again if it is needed later.
+	 *
+	 * @param maxSize maximum number of graphs, or 0 for no limit.
+	 */
+	public void setMaxSize(int maxSize) {
+		this.maxSize = maxSize;
+	}
+
+	/**
+	 * @return maximum number of graphs kept, or 0 for no limit.
+	 */
+	public int getMaxSize() {
+		return maxSize;
+	}
+
+	/**
+	 * @return number of lookups that found the graph.
+	 */
+	public long getHits() {
+		return hits.get();
+	}
+
+	/**
+	 * @return number of lookups that did not find the graph.
+	 */
+	public long getMisses() {
+		return misses.get();
+	}
+
+	/**
+	 * @return number of graphs evicted because the cache was full.
+	 */
+	public long getEvictions() {
+		return evictions.get();
+	}
+}